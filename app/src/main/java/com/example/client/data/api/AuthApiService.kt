@@ -2,7 +2,9 @@ package com.example.client.data.api
 
 import com.example.client.data.model.AuthResponse
 import com.example.client.data.model.LoginRequest
+import com.example.client.data.model.RefreshTokenRequest
 import com.example.client.data.model.RegisterRequest
+import retrofit2.Call
 import retrofit2.Response
 import retrofit2.http.Body
 import retrofit2.http.POST
@@ -13,4 +15,8 @@ interface AuthApiService {
 
     @POST("api/auth/login")
     suspend fun login(@Body request: LoginRequest): Response<AuthResponse>
+
+    /** Blocking on purpose: called from [TokenAuthenticator] on an OkHttp thread. */
+    @POST("api/auth/refresh")
+    fun refresh(@Body request: RefreshTokenRequest): Call<AuthResponse>
 }
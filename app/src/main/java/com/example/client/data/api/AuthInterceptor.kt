@@ -14,7 +14,7 @@ class AuthInterceptor @Inject constructor(
         val token = tokenManager.getToken()
         val newRequest = if (token != null) {
             request.newBuilder()
-                .addHeader("Authorization", "Bearer $token")
+                .header("Authorization", "Bearer $token")
                 .build()
         } else {
             request
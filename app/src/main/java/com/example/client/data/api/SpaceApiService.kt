@@ -1,7 +1,7 @@
 package com.example.client.data.api
 
 import com.example.client.data.model.CreateSpaceRequest
-import com.example.client.data.model.ImageUploadResponse
+import com.example.client.data.model.ImageUploadJobResponse
 import com.example.client.data.model.LikeResponse
 import com.example.client.data.model.SpaceResponse
 import okhttp3.MultipartBody
@@ -14,11 +14,16 @@ import retrofit2.http.POST
 import retrofit2.http.PUT
 import retrofit2.http.Part
 import retrofit2.http.Path
+import retrofit2.http.Query
 
 interface SpaceApiService {
 
+    /** Newest first; the cursor for the next page comes back in the X-Next-Cursor header. */
     @GET("api/spaces")
-    suspend fun getSpaces(): Response<List<SpaceResponse>>
+    suspend fun getSpaces(
+        @Query("cursor") cursor: String? = null,
+        @Query("limit") limit: Int? = null
+    ): Response<List<SpaceResponse>>
 
     @GET("api/spaces/mine")
     suspend fun getMySpaces(): Response<List<SpaceResponse>>
@@ -28,7 +33,14 @@ interface SpaceApiService {
 
     @Multipart
     @POST("api/spaces/upload-image")
-    suspend fun uploadImage(@Part file: MultipartBody.Part): Response<ImageUploadResponse>
+    suspend fun uploadImage(@Part file: MultipartBody.Part): Response<ImageUploadJobResponse>
+
+    @Multipart
+    @POST("api/spaces/upload-images")
+    suspend fun uploadImages(@Part files: List<MultipartBody.Part>): Response<List<ImageUploadJobResponse>>
+
+    @GET("api/spaces/upload-image/{jobId}")
+    suspend fun getUploadJob(@Path("jobId") jobId: String): Response<ImageUploadJobResponse>
 
     @POST("api/spaces")
     suspend fun createSpace(@Body request: CreateSpaceRequest): Response<SpaceResponse>
@@ -0,0 +1,59 @@
+package com.example.client.data.api
+
+import com.example.client.data.local.TokenManager
+import com.example.client.data.model.RefreshTokenRequest
+import okhttp3.Authenticator
+import okhttp3.Request
+import okhttp3.Response
+import okhttp3.Route
+import javax.inject.Inject
+import javax.inject.Provider
+
+/**
+ * Renews the short-lived access token when the server answers 401, then retries the request once.
+ * Refreshes are serialized: the server rotates refresh tokens and treats a second use of the same
+ * one as theft, so concurrent 401s must share a single refresh.
+ */
+class TokenAuthenticator @Inject constructor(
+    private val tokenManager: TokenManager,
+    // Provider breaks the cycle OkHttpClient -> Authenticator -> AuthApiService -> Retrofit -> OkHttpClient
+    private val authApiService: Provider<AuthApiService>
+) : Authenticator {
+
+    override fun authenticate(route: Route?, response: Response): Request? {
+        val request = response.request
+        if (request.url.encodedPath.startsWith("/api/auth/") || response.priorResponse != null) {
+            return null
+        }
+        val failedToken = request.header("Authorization")?.removePrefix("Bearer ")
+        synchronized(this) {
+            val current = tokenManager.getToken()
+            // Another request already refreshed while this one was in flight
+            if (current != null && current != failedToken) {
+                return withToken(request, current)
+            }
+            val refreshToken = tokenManager.getRefreshToken() ?: return null
+            val refreshed = try {
+                authApiService.get().refresh(RefreshTokenRequest(refreshToken)).execute()
+            } catch (e: Exception) {
+                return null
+            }
+            val body = refreshed.body()
+            if (!refreshed.isSuccessful || body == null) {
+                // Expired, revoked or reused: the user has to log in again
+                if (refreshed.code() == 401 || refreshed.code() == 400) {
+                    tokenManager.clearToken()
+                }
+                return null
+            }
+            tokenManager.saveTokens(body.token, body.refreshToken)
+            return withToken(request, body.token)
+        }
+    }
+
+    private fun withToken(request: Request, token: String): Request {
+        return request.newBuilder()
+            .header("Authorization", "Bearer $token")
+            .build()
+    }
+}
@@ -14,12 +14,29 @@ class TokenManager(context: Context) {
         prefs.edit { putString("auth_token", token) }
     }
 
+    /** Stores a fresh access token and, when the server sent one, the refresh token that replaces the old one. */
+    fun saveTokens(token: String, refreshToken: String?) {
+        prefs.edit {
+            putString("auth_token", token)
+            if (refreshToken != null) {
+                putString("refresh_token", refreshToken)
+            }
+        }
+    }
+
     fun getToken(): String? {
         return prefs.getString("auth_token", null)
     }
 
+    fun getRefreshToken(): String? {
+        return prefs.getString("refresh_token", null)
+    }
+
     fun clearToken() {
-        prefs.edit { remove("auth_token") }
+        prefs.edit {
+            remove("auth_token")
+            remove("refresh_token")
+        }
     }
 
     fun isLoggedIn(): Boolean {
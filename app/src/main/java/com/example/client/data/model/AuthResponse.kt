@@ -2,6 +2,8 @@ package com.example.client.data.model
 
 data class AuthResponse(
     val token: String,
+    val refreshToken: String? = null,
+    val expiresIn: Long? = null,
     val type: String = "Bearer",
     val username: String,
     val email: String,
@@ -0,0 +1,10 @@
+package com.example.client.data.model
+
+import com.google.gson.annotations.SerializedName
+
+data class ImageUploadJobResponse(
+    @SerializedName("jobId") val jobId: String? = null,
+    @SerializedName("status") val status: String,
+    @SerializedName("url") val url: String? = null,
+    @SerializedName("error") val error: String? = null
+)
@@ -0,0 +1,5 @@
+package com.example.client.data.model
+
+data class RefreshTokenRequest(
+    val refreshToken: String
+)
@@ -0,0 +1,9 @@
+package com.example.client.data.model
+
+import com.google.gson.annotations.SerializedName
+
+data class SpaceImage(
+    @SerializedName("url") val url: String,
+    @SerializedName("thumbnailUrl") val thumbnailUrl: String,
+    @SerializedName("mediumUrl") val mediumUrl: String
+)
@@ -0,0 +1,7 @@
+package com.example.client.data.model
+
+/** One page of GET /api/spaces; [nextCursor] is null on the last page. */
+data class SpacePage(
+    val items: List<SpaceResponse>,
+    val nextCursor: String?
+)
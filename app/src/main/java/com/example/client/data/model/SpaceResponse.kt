@@ -12,5 +12,6 @@ data class SpaceResponse(
     @SerializedName("rentPerDay") val rentPerDay: Double? = null,
     @SerializedName("rentMonthly") val rentMonthly: Double? = null,
     @SerializedName("imageUrls") val imageUrls: List<String>? = null,
+    @SerializedName("images") val images: List<SpaceImage>? = null,
     @SerializedName("createdAt") val createdAt: String? = null
 )
@@ -2,12 +2,18 @@ package com.example.client.data.repository
 
 import com.example.client.data.api.SpaceApiService
 import com.example.client.data.model.CreateSpaceRequest
+import com.example.client.data.model.ImageUploadJobResponse
 import com.example.client.data.model.ImageUploadResponse
 import com.example.client.data.model.LikeResponse
+import com.example.client.data.model.SpacePage
 import com.example.client.data.model.SpaceResponse
 import okhttp3.MediaType.Companion.toMediaTypeOrNull
 import okhttp3.MultipartBody
 import okhttp3.RequestBody
+import kotlinx.coroutines.async
+import kotlinx.coroutines.awaitAll
+import kotlinx.coroutines.coroutineScope
+import kotlinx.coroutines.delay
 import java.io.File
 import javax.inject.Inject
 
@@ -24,21 +30,75 @@ class SpaceRepository @Inject constructor(
                 RequestBody.create(mediaType, file)
             )
             val response = apiService.uploadImage(requestBody)
-            if (response.isSuccessful && response.body() != null) {
-                Result.success(response.body()!!)
-            } else {
-                Result.failure(Exception("Upload failed: ${response.errorBody()?.string() ?: "Unknown error"}"))
+            if (!response.isSuccessful || response.body() == null) {
+                return Result.failure(Exception("Upload failed: ${response.errorBody()?.string() ?: "Unknown error"}"))
             }
+            awaitUpload(response.body()!!)
         } catch (e: Exception) {
             Result.failure(e)
         }
     }
 
-    suspend fun getSpaces(): Result<List<SpaceResponse>> {
+    /**
+     * Uploads [files] in batches and returns their URLs in the same order. Fails with the first
+     * per-file error, since a space should not be saved with some of its photos missing.
+     */
+    suspend fun uploadImages(files: List<File>): Result<List<String>> {
         return try {
-            val response = apiService.getSpaces()
+            val urls = mutableListOf<String>()
+            for (batch in files.chunked(MAX_BATCH_FILES)) {
+                val parts = batch.map { file ->
+                    MultipartBody.Part.createFormData(
+                        "files",
+                        file.name,
+                        RequestBody.create("image/*".toMediaTypeOrNull(), file)
+                    )
+                }
+                val response = apiService.uploadImages(parts)
+                if (!response.isSuccessful || response.body() == null) {
+                    return Result.failure(Exception("Upload failed: ${response.errorBody()?.string() ?: "Unknown error"}"))
+                }
+                val results = coroutineScope {
+                    response.body()!!.map { job -> async { awaitUpload(job) } }.awaitAll()
+                }
+                for (result in results) {
+                    urls.add(result.getOrElse { return Result.failure(it) }.url)
+                }
+            }
+            Result.success(urls)
+        } catch (e: Exception) {
+            Result.failure(e)
+        }
+    }
+
+    /** The server stores images in the background; poll the job until it finishes. */
+    private suspend fun awaitUpload(submitted: ImageUploadJobResponse): Result<ImageUploadResponse> {
+        var job = submitted
+        var polls = 0
+        while (true) {
+            when (job.status) {
+                "DONE" -> return Result.success(ImageUploadResponse(job.url!!))
+                "FAILED" -> return Result.failure(Exception("Upload failed: ${job.error ?: "Unknown error"}"))
+            }
+            val jobId = job.jobId ?: return Result.failure(Exception("Upload failed: ${job.error ?: "Unknown error"}"))
+            if (++polls > MAX_UPLOAD_POLLS) {
+                return Result.failure(Exception("Upload timed out"))
+            }
+            delay(UPLOAD_POLL_INTERVAL_MS)
+            val response = apiService.getUploadJob(jobId)
+            if (!response.isSuccessful || response.body() == null) {
+                return Result.failure(Exception("Upload failed: ${response.errorBody()?.string() ?: "Unknown error"}"))
+            }
+            job = response.body()!!
+        }
+    }
+
+    /** One page of spaces, newest first; pass the previous page's [SpacePage.nextCursor] to continue. */
+    suspend fun getSpaces(cursor: String? = null): Result<SpacePage> {
+        return try {
+            val response = apiService.getSpaces(cursor, PAGE_SIZE)
             if (response.isSuccessful && response.body() != null) {
-                Result.success(response.body()!!)
+                Result.success(SpacePage(response.body()!!, response.headers()[NEXT_CURSOR_HEADER]))
             } else {
                 Result.failure(Exception("Failed to load spaces: ${response.errorBody()?.string() ?: "Unknown error"}"))
             }
@@ -137,4 +197,12 @@ class SpaceRepository @Inject constructor(
             Result.failure(e)
         }
     }
+
+    companion object {
+        private const val UPLOAD_POLL_INTERVAL_MS = 500L
+        private const val MAX_UPLOAD_POLLS = 240
+        private const val MAX_BATCH_FILES = 10
+        private const val PAGE_SIZE = 20
+        private const val NEXT_CURSOR_HEADER = "X-Next-Cursor"
+    }
 }
@@ -1,18 +1,22 @@
 package com.example.client.di
 
+import android.app.Application
 import com.example.client.data.api.AuthApiService
 import com.example.client.data.api.AuthInterceptor
 import com.example.client.data.api.BookingApiService
 import com.example.client.data.api.ChatApiService
 import com.example.client.data.api.SpaceApiService
+import com.example.client.data.api.TokenAuthenticator
 import dagger.Module
 import dagger.Provides
 import dagger.hilt.InstallIn
 import dagger.hilt.components.SingletonComponent
+import okhttp3.Cache
 import okhttp3.OkHttpClient
 import okhttp3.logging.HttpLoggingInterceptor
 import retrofit2.Retrofit
 import retrofit2.converter.gson.GsonConverterFactory
+import java.io.File
 import java.util.concurrent.TimeUnit
 import javax.inject.Singleton
 
@@ -21,15 +25,24 @@ import javax.inject.Singleton
 object NetworkModule {
 
     private const val BASE_URL = "http://10.0.2.2:8080/"
+    private const val HTTP_CACHE_BYTES = 10L * 1024 * 1024
 
     @Provides
     @Singleton
-    fun provideOkHttpClient(authInterceptor: AuthInterceptor): OkHttpClient {
+    fun provideOkHttpClient(
+        application: Application,
+        authInterceptor: AuthInterceptor,
+        tokenAuthenticator: TokenAuthenticator
+    ): OkHttpClient {
         val loggingInterceptor = HttpLoggingInterceptor().apply {
             level = HttpLoggingInterceptor.Level.BODY
         }
         return OkHttpClient.Builder()
+            // Space listings are sent with ETags; cached copies are revalidated and a 304 reuses them
+            .cache(Cache(File(application.cacheDir, "http"), HTTP_CACHE_BYTES))
             .addInterceptor(authInterceptor)
+            // Access tokens live 15 minutes; a 401 is answered by refreshing and retrying once
+            .authenticator(tokenAuthenticator)
             .addInterceptor(loggingInterceptor)
             .connectTimeout(30, TimeUnit.SECONDS)
             .readTimeout(30, TimeUnit.SECONDS)
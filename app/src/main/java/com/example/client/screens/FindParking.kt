@@ -21,6 +21,7 @@ import androidx.compose.material3.ExperimentalMaterial3Api
 import androidx.compose.material3.MaterialTheme
 import androidx.compose.material3.Text
 import androidx.compose.runtime.Composable
+import androidx.compose.runtime.LaunchedEffect
 import androidx.compose.runtime.collectAsState
 import androidx.compose.runtime.getValue
 import androidx.compose.ui.Alignment
@@ -99,6 +100,22 @@ fun FindParking(
                             onClick = { onSpaceClick(space) }
                         )
                     }
+                    if (uiState.nextCursor != null) {
+                        // Composed once the end of the list scrolls into view: fetch the next page
+                        item(key = "load-more") {
+                            LaunchedEffect(uiState.nextCursor) {
+                                viewModel.loadMore()
+                            }
+                            Box(
+                                modifier = Modifier
+                                    .fillMaxWidth()
+                                    .padding(8.dp),
+                                contentAlignment = Alignment.Center
+                            ) {
+                                CircularProgressIndicator()
+                            }
+                        }
+                    }
                 }
             }
         }
@@ -126,7 +143,7 @@ private fun ParkingSpaceCard(
     space: SpaceResponse,
     onClick: () -> Unit = {}
 ) {
-    val firstImageUrl = space.imageUrls?.firstOrNull()
+    val firstImageUrl = space.images?.firstOrNull()?.thumbnailUrl ?: space.imageUrls?.firstOrNull()
 
     Card(
         modifier = Modifier
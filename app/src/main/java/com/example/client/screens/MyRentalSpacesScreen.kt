@@ -103,7 +103,7 @@ private fun ParkingSpaceCard(
     space: SpaceResponse,
     onClick: () -> Unit
 ) {
-    val firstImageUrl = space.imageUrls?.firstOrNull()
+    val firstImageUrl = space.images?.firstOrNull()?.thumbnailUrl ?: space.imageUrls?.firstOrNull()
     Card(
         modifier = Modifier.fillMaxWidth().clickable(onClick = onClick),
         shape = MaterialTheme.shapes.medium,
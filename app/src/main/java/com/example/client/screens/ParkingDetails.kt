@@ -95,7 +95,7 @@ fun ParkingDetails(
                 .fillMaxSize()
                 .verticalScroll(rememberScrollState())
         ) {
-            ImageCarousel(imageUrls = space.imageUrls)
+            ImageCarousel(imageUrls = space.images?.map { it.mediumUrl } ?: space.imageUrls)
 
             Column(
                 modifier = Modifier.padding(16.dp),
@@ -83,7 +83,7 @@ class AuthViewModel @Inject constructor(
 
         authRepository.register(request)
             .onSuccess { response ->
-                tokenManager.saveToken(response.token)
+                tokenManager.saveTokens(response.token, response.refreshToken)
                 state.authResponse = response
                 state.isLoading = false
                 state.event = AuthUiEvent.NavigateToHome
@@ -101,7 +101,7 @@ class AuthViewModel @Inject constructor(
 
         authRepository.login(request)
             .onSuccess { response ->
-                tokenManager.saveToken(response.token)
+                tokenManager.saveTokens(response.token, response.refreshToken)
                 state.authResponse = response
                 state.isLoading = false
                 state.event = AuthUiEvent.NavigateToHome
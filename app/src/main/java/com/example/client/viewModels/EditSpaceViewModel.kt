@@ -95,12 +95,13 @@ class EditSpaceViewModel @Inject constructor(
             _uiState.value = s.copy(isLoading = true, errorMessage = null)
             val existingUrls = s.imageItems.filter { it.startsWith("http") }
             val pathsToUpload = s.imageItems.filter { !it.startsWith("http") }
-            val newUrls = mutableListOf<String>()
-            for (path in pathsToUpload) {
-                val file = java.io.File(path)
-                if (file.exists()) {
-                    spaceRepository.uploadImage(file).onSuccess { newUrls.add(it.url) }
-                        .onFailure { _uiState.value = s.copy(isLoading = false, errorMessage = "Image upload failed"); return@launch }
+            val files = pathsToUpload.map { java.io.File(it) }.filter { it.exists() }
+            val newUrls = if (files.isEmpty()) {
+                emptyList()
+            } else {
+                spaceRepository.uploadImages(files).getOrElse {
+                    _uiState.value = s.copy(isLoading = false, errorMessage = "Image upload failed")
+                    return@launch
                 }
             }
             val allUrls = existingUrls + newUrls
@@ -14,6 +14,8 @@ import javax.inject.Inject
 data class FindParkingUiState(
     val spaces: List<SpaceResponse> = emptyList(),
     val isLoading: Boolean = false,
+    val isLoadingMore: Boolean = false,
+    val nextCursor: String? = null,
     val errorMessage: String? = null
 )
 
@@ -29,13 +31,15 @@ class FindParkingViewModel @Inject constructor(
         loadSpaces()
     }
 
+    /** Reloads from the newest space, dropping any pages loaded so far. */
     fun loadSpaces() {
         viewModelScope.launch {
             _uiState.value = _uiState.value.copy(isLoading = true, errorMessage = null)
             spaceRepository.getSpaces()
-                .onSuccess { list ->
+                .onSuccess { page ->
                     _uiState.value = _uiState.value.copy(
-                        spaces = list,
+                        spaces = page.items,
+                        nextCursor = page.nextCursor,
                         isLoading = false,
                         errorMessage = null
                     )
@@ -48,4 +52,28 @@ class FindParkingViewModel @Inject constructor(
                 }
         }
     }
+
+    /** Appends the next page; a no-op on the last page or while a page is already loading. */
+    fun loadMore() {
+        val state = _uiState.value
+        val cursor = state.nextCursor ?: return
+        if (state.isLoading || state.isLoadingMore) return
+        _uiState.value = state.copy(isLoadingMore = true)
+        viewModelScope.launch {
+            spaceRepository.getSpaces(cursor)
+                .onSuccess { page ->
+                    val current = _uiState.value
+                    val known = current.spaces.mapTo(HashSet()) { it.id }
+                    _uiState.value = current.copy(
+                        spaces = current.spaces + page.items.filter { it.id !in known },
+                        nextCursor = page.nextCursor,
+                        isLoadingMore = false
+                    )
+                }
+                .onFailure {
+                    // Keep what is shown; scrolling back to the end retries
+                    _uiState.value = _uiState.value.copy(isLoadingMore = false)
+                }
+        }
+    }
 }
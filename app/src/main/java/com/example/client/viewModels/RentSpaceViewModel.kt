@@ -139,12 +139,10 @@ class RentSpacePresenter @Inject constructor(
 
         val paths = state.imagePaths
         val uploadedUrls = state.imageUploadUrls.toMutableList()
-        for (i in paths.indices) {
-            if (i < uploadedUrls.size) continue
-            val file = java.io.File(paths[i])
-            if (!file.exists()) continue
-            spaceRepository.uploadImage(file)
-                .onSuccess { uploadedUrls.add(it.url) }
+        val pending = paths.drop(uploadedUrls.size).map { java.io.File(it) }.filter { it.exists() }
+        if (pending.isNotEmpty()) {
+            spaceRepository.uploadImages(pending)
+                .onSuccess { uploadedUrls.addAll(it) }
                 .onFailure {
                     state.errorMessage = it.message ?: "Image upload failed"
                     state.isLoading = false
@@ -1,5 +1,9 @@
 package com.backend.server.config;
 
+import com.backend.server.security.AuthenticatedUser;
+import com.backend.server.security.StompSessionAuthorizations;
+import com.backend.server.security.TokenDenylist;
+import com.backend.server.security.VerifiedToken;
 import com.backend.server.service.JwtService;
 import com.backend.server.service.UserService;
 import lombok.RequiredArgsConstructor;
@@ -9,16 +13,26 @@ import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 @Component
 @RequiredArgsConstructor
 public class JwtChannelInterceptor implements ChannelInterceptor {
 
+    private static final String APPLICATION_PREFIX = "/app/";
+    private static final Pattern CONVERSATION_TOPIC = Pattern.compile("/topic/conversation/(\\d{1,18})");
+    private static final Pattern PATTERN_CHARACTERS = Pattern.compile("[*?{}]");
+
     private final JwtService jwtService;
     private final UserService userService;
+    private final TokenDenylist tokenDenylist;
+    private final StompSessionAuthorizations sessionAuthorizations;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -30,16 +44,46 @@ public class JwtChannelInterceptor implements ChannelInterceptor {
             if (authHeader != null && authHeader.startsWith("Bearer ")) {
                 String token = authHeader.substring(7);
                 try {
-                    String username = jwtService.extractUsername(token);
-                    var userDetails = userService.loadUserByUsername(username);
-                    if (jwtService.validateToken(token, userDetails)) {
-                        accessor.setUser(new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+                    VerifiedToken verified = jwtService.verify(token);
+                    if (tokenDenylist.isRevoked(verified.jti())) {
+                        return message;
                     }
+                    Long userId = verified.userId() != null
+                            ? verified.userId()
+                            : userService.getUserIdByUsername(verified.subject());
+                    AuthenticatedUser principal = AuthenticatedUser.of(verified, userId);
+                    accessor.setUser(new UsernamePasswordAuthenticationToken(principal, null, principal.authorities()));
+                    sessionAuthorizations.open(accessor.getSessionId(), userId);
                 } catch (Exception ignored) {
                     // Invalid token – connection will proceed without auth; /app/chat will reject
                 }
             }
+        } else if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+            authorizeSubscribe(accessor.getSessionId(), accessor.getDestination());
+        } else if (StompCommand.SEND.equals(accessor.getCommand())) {
+            // Clients may only send to @MessageMapping handlers, never straight to the broker
+            String destination = accessor.getDestination();
+            if (destination == null || !destination.startsWith(APPLICATION_PREFIX)) {
+                throw new AccessDeniedException("Cannot send to " + destination);
+            }
         }
         return message;
     }
+
+    /** Only concrete conversation topics: the simple broker would treat wildcards as Ant patterns. */
+    private void authorizeSubscribe(String sessionId, String destination) {
+        if (sessionAuthorizations.userId(sessionId) == null) {
+            throw new AccessDeniedException("Authentication required to subscribe");
+        }
+        if (destination == null || PATTERN_CHARACTERS.matcher(destination).find()) {
+            throw new AccessDeniedException("Invalid subscription destination");
+        }
+        Matcher conversation = CONVERSATION_TOPIC.matcher(destination);
+        if (!conversation.matches()) {
+            throw new AccessDeniedException("Cannot subscribe to " + destination);
+        }
+        if (!sessionAuthorizations.canUseConversation(sessionId, Long.valueOf(conversation.group(1)))) {
+            throw new AccessDeniedException("Not a participant of this conversation");
+        }
+    }
 }
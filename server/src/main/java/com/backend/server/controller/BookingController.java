@@ -3,6 +3,7 @@ package com.backend.server.controller;
 import com.backend.server.dto.BookingResponse;
 import com.backend.server.dto.CreateBookingRequest;
 import com.backend.server.dto.DummyPaymentResponse;
+import com.backend.server.security.AuthenticatedUser;
 import com.backend.server.service.BookingService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -24,21 +25,21 @@ public class BookingController {
             @PathVariable Long spaceId,
             @Valid @RequestBody CreateBookingRequest request
     ) {
-        BookingResponse response = bookingService.createBooking(spaceId, getCurrentUsername(), request);
+        BookingResponse response = bookingService.createBooking(spaceId, getCurrentUserId(), request);
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
     @PostMapping("/bookings/{bookingId}/pay-dummy")
     public ResponseEntity<DummyPaymentResponse> dummyPayment(@PathVariable Long bookingId) {
-        DummyPaymentResponse response = bookingService.processDummyPayment(bookingId, getCurrentUsername());
+        DummyPaymentResponse response = bookingService.processDummyPayment(bookingId, getCurrentUserId());
         return ResponseEntity.ok(response);
     }
 
-    private String getCurrentUsername() {
+    private Long getCurrentUserId() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        if (auth == null || !auth.isAuthenticated() || auth.getPrincipal() == null) {
+        if (auth == null || !auth.isAuthenticated() || !(auth.getPrincipal() instanceof AuthenticatedUser user)) {
             throw new IllegalStateException("User not authenticated");
         }
-        return auth.getName();
+        return user.id();
     }
 }
@@ -2,9 +2,9 @@ package com.backend.server.controller;
 
 import com.backend.server.dto.ChatMessageResponse;
 import com.backend.server.dto.ConversationResponse;
+import com.backend.server.security.AuthenticatedUser;
 import com.backend.server.service.ChatService;
 import com.backend.server.service.ConversationService;
-import com.backend.server.service.UserService;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -24,26 +24,24 @@ public class ChatController {
 
     private final ConversationService conversationService;
     private final ChatService chatService;
-    private final UserService userService;
 
     @PostMapping
     public ResponseEntity<ConversationResponse> getOrCreate(@RequestBody GetOrCreateRequest request) {
-        ConversationResponse response = conversationService.getOrCreate(request.getSpaceId(), getCurrentUsername());
+        ConversationResponse response = conversationService.getOrCreate(request.getSpaceId(), getCurrentUserId());
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
     @GetMapping("/{id}/messages")
     public ResponseEntity<List<ChatMessageResponse>> getMessages(@PathVariable Long id) {
-        Long userId = userService.getUserIdByUsername(getCurrentUsername());
-        return ResponseEntity.ok(chatService.getMessages(id, userId));
+        return ResponseEntity.ok(chatService.getMessages(id, getCurrentUserId()));
     }
 
-    private String getCurrentUsername() {
+    private Long getCurrentUserId() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        if (auth == null || !auth.isAuthenticated() || auth.getPrincipal() == null) {
+        if (auth == null || !auth.isAuthenticated() || !(auth.getPrincipal() instanceof AuthenticatedUser user)) {
             throw new IllegalStateException("User not authenticated");
         }
-        return auth.getName();
+        return user.id();
     }
 
     @lombok.Data
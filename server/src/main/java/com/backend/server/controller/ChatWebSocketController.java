@@ -1,11 +1,14 @@
 package com.backend.server.controller;
 
 import com.backend.server.dto.ChatMessageResponse;
+import com.backend.server.security.AuthenticatedUser;
+import com.backend.server.security.StompSessionAuthorizations;
 import com.backend.server.service.ChatService;
-import com.backend.server.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
@@ -15,16 +18,23 @@ import org.springframework.stereotype.Controller;
 public class ChatWebSocketController {
 
     private final ChatService chatService;
-    private final UserService userService;
+    private final StompSessionAuthorizations sessionAuthorizations;
     private final SimpMessagingTemplate messagingTemplate;
 
     @MessageMapping("/chat")
-    public void sendMessage(@Payload SendMessagePayload payload, Authentication authentication) {
-        if (authentication == null || !authentication.isAuthenticated()) {
+    public void sendMessage(
+            @Payload SendMessagePayload payload,
+            @Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String sessionId,
+            Authentication authentication
+    ) {
+        if (authentication == null || !authentication.isAuthenticated()
+                || !(authentication.getPrincipal() instanceof AuthenticatedUser sender)) {
             return;
         }
-        Long senderId = userService.getUserIdByUsername(authentication.getName());
-        ChatMessageResponse response = chatService.sendMessage(payload.getConversationId(), senderId, payload.getText());
+        if (!sessionAuthorizations.canUseConversation(sessionId, payload.getConversationId())) {
+            return;
+        }
+        ChatMessageResponse response = chatService.appendMessage(payload.getConversationId(), sender.id(), payload.getText());
         messagingTemplate.convertAndSend("/topic/conversation/" + payload.getConversationId(), response);
     }
 
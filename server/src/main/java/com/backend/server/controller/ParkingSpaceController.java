@@ -1,22 +1,31 @@
 package com.backend.server.controller;
 
 import com.backend.server.dto.CreateSpaceRequest;
-import com.backend.server.dto.ImageUploadResponse;
+import com.backend.server.dto.ImageUploadJobResponse;
 import com.backend.server.dto.LikeResponse;
+import com.backend.server.dto.SpaceAddress;
+import com.backend.server.dto.SpacePage;
 import com.backend.server.dto.SpaceResponse;
+import com.backend.server.dto.SpaceSearchRequest;
+import com.backend.server.dto.Versioned;
+import com.backend.server.security.AuthenticatedUser;
+import com.backend.server.service.ImageUploadService;
 import com.backend.server.service.LikeService;
 import com.backend.server.service.ParkingSpaceService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.net.URI;
 import java.util.List;
 
 @RestController
@@ -24,34 +33,94 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ParkingSpaceController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    /** Clients may keep space responses but must revalidate them (cheaply, via ETag) on every use. */
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final ParkingSpaceService parkingSpaceService;
     private final LikeService likeService;
+    private final ImageUploadService imageUploadService;
 
+    /** Answers 202; poll the job linked in {@code Location} until it is DONE or FAILED. */
     @PostMapping(value = "/upload-image", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ResponseEntity<ImageUploadResponse> uploadImage(@RequestParam("file") MultipartFile file) throws IOException {
-        ImageUploadResponse response = parkingSpaceService.uploadImage(file);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<ImageUploadJobResponse> uploadImage(@RequestParam("file") MultipartFile file) throws IOException {
+        ImageUploadJobResponse job = imageUploadService.submit(getCurrentUserId(), file);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/spaces/upload-image/" + job.getJobId()))
+                .body(job);
+    }
+
+    /** One job per file in request order; invalid files come back as FAILED entries. */
+    @PostMapping(value = "/upload-images", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<List<ImageUploadJobResponse>> uploadImages(@RequestParam("files") List<MultipartFile> files)
+            throws IOException {
+        return ResponseEntity.accepted().body(imageUploadService.submitBatch(getCurrentUserId(), files));
+    }
+
+    @GetMapping("/upload-image/{jobId}")
+    public ResponseEntity<ImageUploadJobResponse> getUploadJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(imageUploadService.getStatus(getCurrentUserId(), jobId));
     }
 
+    /** Newest first; the cursor for the next page is in the {@value #NEXT_CURSOR_HEADER} header. */
     @GetMapping
-    public ResponseEntity<List<SpaceResponse>> listSpaces() {
-        return ResponseEntity.ok(parkingSpaceService.listAllSpaces());
+    public ResponseEntity<List<SpaceResponse>> listSpaces(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            WebRequest webRequest
+    ) {
+        return withNextCursor(webRequest, parkingSpaceService.listSpaces(cursor, limit));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<SpaceResponse>> search(
+            @Valid @ModelAttribute SpaceSearchRequest request,
+            WebRequest webRequest
+    ) {
+        return withNextCursor(webRequest, parkingSpaceService.search(request));
+    }
+
+    @GetMapping("/nearby")
+    public ResponseEntity<List<SpaceResponse>> findNearby(
+            @RequestParam double lat,
+            @RequestParam double lon,
+            @RequestParam(required = false) Double radiusM,
+            @RequestParam(required = false) String vehicleType,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return ResponseEntity.ok(parkingSpaceService.findNearby(lat, lon, radiusM, vehicleType, limit));
+    }
+
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<SpaceAddress>> autocomplete(
+            @RequestParam String q,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return ResponseEntity.ok(parkingSpaceService.suggestAddresses(q, limit));
     }
 
     @GetMapping("/mine")
-    public ResponseEntity<List<SpaceResponse>> listMySpaces() {
-        return ResponseEntity.ok(parkingSpaceService.listMySpaces(getCurrentUsername()));
+    public ResponseEntity<List<SpaceResponse>> listMySpaces(WebRequest webRequest) {
+        Versioned<List<SpaceResponse>> spaces = parkingSpaceService.listMySpaces(getCurrentUserId());
+        if (notModified(webRequest, spaces)) {
+            return notModified();
+        }
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(spaces.body());
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<SpaceResponse> getSpace(@PathVariable Long id) {
-        return ResponseEntity.ok(parkingSpaceService.getById(id));
+    public ResponseEntity<SpaceResponse> getSpace(@PathVariable Long id, WebRequest webRequest) {
+        Versioned<SpaceResponse> space = parkingSpaceService.getById(id);
+        if (notModified(webRequest, space)) {
+            return notModified();
+        }
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(space.body());
     }
 
     @PostMapping
     public ResponseEntity<SpaceResponse> createSpace(@Valid @RequestBody CreateSpaceRequest request) {
-        String username = getCurrentUsername();
-        SpaceResponse response = parkingSpaceService.createSpace(username, request);
+        SpaceResponse response = parkingSpaceService.createSpace(getCurrentUserId(), request);
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
@@ -60,30 +129,52 @@ public class ParkingSpaceController {
             @PathVariable Long id,
             @Valid @RequestBody CreateSpaceRequest request
     ) {
-        SpaceResponse response = parkingSpaceService.updateSpace(id, getCurrentUsername(), request);
+        SpaceResponse response = parkingSpaceService.updateSpace(id, getCurrentUserId(), request);
         return ResponseEntity.ok(response);
     }
 
     @GetMapping("/{id}/like")
     public ResponseEntity<LikeResponse> getLike(@PathVariable Long id) {
-        return ResponseEntity.ok(likeService.getLikeInfo(id, getCurrentUsername()));
+        return ResponseEntity.ok(likeService.getLikeInfo(id, getCurrentUserId()));
     }
 
     @PostMapping("/{id}/like")
     public ResponseEntity<LikeResponse> like(@PathVariable Long id) {
-        return ResponseEntity.ok(likeService.like(id, getCurrentUsername()));
+        return ResponseEntity.ok(likeService.like(id, getCurrentUserId()));
     }
 
     @DeleteMapping("/{id}/like")
     public ResponseEntity<LikeResponse> unlike(@PathVariable Long id) {
-        return ResponseEntity.ok(likeService.unlike(id, getCurrentUsername()));
+        return ResponseEntity.ok(likeService.unlike(id, getCurrentUserId()));
+    }
+
+    private static ResponseEntity<List<SpaceResponse>> withNextCursor(WebRequest webRequest, Versioned<SpacePage> versioned) {
+        if (notModified(webRequest, versioned)) {
+            return notModified();
+        }
+        SpacePage page = versioned.body();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().cacheControl(REVALIDATE);
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.items());
+    }
+
+    /** Also writes ETag and Last-Modified to the response, so 200s need not repeat them. */
+    private static boolean notModified(WebRequest webRequest, Versioned<?> versioned) {
+        long lastModified = versioned.lastModified() != null ? versioned.lastModified().toEpochMilli() : -1;
+        return webRequest.checkNotModified(versioned.etag(), lastModified);
+    }
+
+    private static <T> ResponseEntity<T> notModified() {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
     }
 
-    private String getCurrentUsername() {
+    private Long getCurrentUserId() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        if (auth == null || !auth.isAuthenticated() || auth.getPrincipal() == null) {
+        if (auth == null || !auth.isAuthenticated() || !(auth.getPrincipal() instanceof AuthenticatedUser user)) {
             throw new IllegalStateException("User not authenticated");
         }
-        return auth.getName();
+        return user.id();
     }
 }
@@ -1,9 +1,12 @@
 package com.backend.server.dto;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -38,7 +41,17 @@ public class CreateSpaceRequest {
     @PositiveOrZero(message = "Monthly rent must be 0 or positive")
     private BigDecimal rentMonthly;
 
-    /** Cloudinary image URLs after upload (max 3) */
+    /** Optional; when given, both coordinates are required */
+    @DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90")
+    @DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90")
+    private Double latitude;
+
+    @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+    private Double longitude;
+
+    /** Uploaded image URLs, in display order */
+    @Size(max = 10, message = "At most 10 images per space")
     @JsonProperty("imageUrls")
     private java.util.List<String> imageUrls;
 }
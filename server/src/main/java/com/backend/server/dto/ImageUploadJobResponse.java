@@ -0,0 +1,23 @@
+package com.backend.server.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** State of an asynchronous image upload; {@code url} and its variants are set once DONE, {@code error} once FAILED. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImageUploadJobResponse {
+
+    public enum Status { QUEUED, PROCESSING, DONE, FAILED }
+
+    private String jobId;
+    private Status status;
+    private String url;
+    private String thumbnailUrl;
+    private String mediumUrl;
+    private String error;
+}
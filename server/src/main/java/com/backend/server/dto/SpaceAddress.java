@@ -0,0 +1,5 @@
+package com.backend.server.dto;
+
+/** Address of one space; loaded into the address index and returned as an autocomplete suggestion. */
+public record SpaceAddress(Long id, String address) {
+}
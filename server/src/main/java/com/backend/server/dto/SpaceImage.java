@@ -0,0 +1,5 @@
+package com.backend.server.dto;
+
+/** Images without variants repeat the original URL for every size. */
+public record SpaceImage(String url, String thumbnailUrl, String mediumUrl) {
+}
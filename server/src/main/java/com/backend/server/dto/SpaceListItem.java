@@ -0,0 +1,22 @@
+package com.backend.server.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/** Read-only listing row filled by a JPQL constructor expression; never a managed entity. */
+public record SpaceListItem(
+        Long id,
+        Long ownerId,
+        String address,
+        Integer squareFeet,
+        String vehicleTypes,
+        BigDecimal rentPerHour,
+        BigDecimal rentPerDay,
+        BigDecimal rentMonthly,
+        Double latitude,
+        Double longitude,
+        LocalDateTime createdAt,
+        Long version,
+        LocalDateTime lastModified
+) {
+}
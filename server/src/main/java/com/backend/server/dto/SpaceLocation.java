@@ -0,0 +1,5 @@
+package com.backend.server.dto;
+
+/** Coordinates and vehicle type mask of one space, as loaded into the geo index. */
+public record SpaceLocation(Long id, Double latitude, Double longitude, int vehicleTypeMask) {
+}
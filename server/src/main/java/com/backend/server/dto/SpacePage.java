@@ -0,0 +1,7 @@
+package com.backend.server.dto;
+
+import java.util.List;
+
+/** One keyset page of spaces; {@code nextCursor} is null on the last page. */
+public record SpacePage(List<SpaceResponse> items, String nextCursor) {
+}
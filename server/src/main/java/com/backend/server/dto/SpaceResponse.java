@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.math.BigDecimal;
@@ -26,5 +27,12 @@ public class SpaceResponse {
     private BigDecimal rentMonthly;
     @JsonProperty("imageUrls")
     private java.util.List<String> imageUrls;
+    /** Same images as {@code imageUrls}, in the same order, with thumbnail and medium variants */
+    private java.util.List<SpaceImage> images;
+    private Double latitude;
+    private Double longitude;
+    /** Only set on GET /api/spaces/nearby results */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double distanceMeters;
     private LocalDateTime createdAt;
 }
@@ -0,0 +1,49 @@
+package com.backend.server.dto;
+
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/** Query parameters of GET /api/spaces/search; every filter is optional and bounds are inclusive. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SpaceSearchRequest {
+
+    @PositiveOrZero(message = "Rent bounds must be 0 or positive")
+    private BigDecimal minRentPerHour;
+
+    @PositiveOrZero(message = "Rent bounds must be 0 or positive")
+    private BigDecimal maxRentPerHour;
+
+    @PositiveOrZero(message = "Rent bounds must be 0 or positive")
+    private BigDecimal minRentPerDay;
+
+    @PositiveOrZero(message = "Rent bounds must be 0 or positive")
+    private BigDecimal maxRentPerDay;
+
+    @PositiveOrZero(message = "Rent bounds must be 0 or positive")
+    private BigDecimal minRentMonthly;
+
+    @PositiveOrZero(message = "Rent bounds must be 0 or positive")
+    private BigDecimal maxRentMonthly;
+
+    @Positive(message = "Square feet bounds must be positive")
+    private Integer minSquareFeet;
+
+    @Positive(message = "Square feet bounds must be positive")
+    private Integer maxSquareFeet;
+
+    /** Vehicle type(s) the space must accept, e.g. "SUV" or "Car, Bike" (all of them) */
+    private String vehicleType;
+
+    private String cursor;
+
+    private Integer limit;
+}
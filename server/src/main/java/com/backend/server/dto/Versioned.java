@@ -0,0 +1,13 @@
+package com.backend.server.dto;
+
+import java.time.Instant;
+import java.util.function.Supplier;
+
+/** Validators with a deferred body, so a 304 is answered before anything is built. */
+public record Versioned<T>(String etag, Instant lastModified, Supplier<T> content) {
+
+    /** Builds the body; only call this when the response is not a 304. */
+    public T body() {
+        return content.get();
+    }
+}
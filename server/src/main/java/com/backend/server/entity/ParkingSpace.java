@@ -12,7 +12,14 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "parking_spaces")
+@Table(name = "parking_spaces", indexes = {
+    @Index(name = "idx_parking_spaces_created_at_id", columnList = "created_at DESC, id DESC"),
+    // Search filters; the keyset columns ride along so the cursor predicate is checked inside the index
+    @Index(name = "idx_parking_spaces_rent_hour", columnList = "rent_per_hour, created_at DESC, id DESC"),
+    @Index(name = "idx_parking_spaces_rent_day", columnList = "rent_per_day, created_at DESC, id DESC"),
+    @Index(name = "idx_parking_spaces_rent_monthly", columnList = "rent_monthly, created_at DESC, id DESC"),
+    @Index(name = "idx_parking_spaces_square_feet", columnList = "square_feet, created_at DESC, id DESC")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -39,6 +46,10 @@ public class ParkingSpace {
     @Column(name = "vehicle_types", nullable = false, length = 500)
     private String vehicleTypes; // e.g. "Car, Bike, SUV" or JSON
 
+    /** {@link VehicleType} bits accepted by this space; 0 until legacy free text has been backfilled. */
+    @Column(name = "vehicle_type_mask", nullable = false, columnDefinition = "integer not null default 0")
+    private int vehicleTypeMask;
+
     @Column(name = "rent_per_hour", precision = 10, scale = 2)
     private BigDecimal rentPerHour;
 
@@ -48,15 +59,35 @@ public class ParkingSpace {
     @Column(name = "rent_monthly", precision = 10, scale = 2)
     private BigDecimal rentMonthly;
 
-    /** Comma-separated image URLs (max 3). Uses image_url column for backward compatibility. */
+    /** WGS84 coordinates; null for spaces listed before location was captured. */
+    private Double latitude;
+
+    private Double longitude;
+
+    /** Legacy comma-separated URLs; cleared by {@code SpaceImageBackfill}. */
     @Column(name = "image_url", length = 2000)
-    private String imageUrls;
+    private String legacyImageUrls;
 
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    /** Last change to the space or its images; null for spaces not modified since this column was added. */
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    /** Bumped by Hibernate on every update; together with the id it identifies one state of the space for ETags. */
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint not null default 0")
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
+        updatedAt = createdAt;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
     }
 }
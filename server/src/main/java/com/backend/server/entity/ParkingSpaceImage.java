@@ -0,0 +1,45 @@
+package com.backend.server.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** One image of a space, in display order; variants are copied from its {@link StoredImage}. */
+@Entity
+@Table(name = "space_images", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_space_images_space_position", columnNames = {"space_id", "position"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ParkingSpaceImage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "space_id", nullable = false)
+    private Long spaceId;
+
+    @Column(nullable = false)
+    private int position;
+
+    @Column(nullable = false, length = 1000)
+    private String url;
+
+    @Column(name = "thumbnail_url", length = 1000)
+    private String thumbnailUrl;
+
+    @Column(name = "medium_url", length = 1000)
+    private String mediumUrl;
+
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    private Integer width;
+
+    private Integer height;
+}
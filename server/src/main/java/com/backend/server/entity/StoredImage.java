@@ -0,0 +1,50 @@
+package com.backend.server.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/** An uploaded image and its variants; variant URLs are null when it could not be decoded. */
+@Entity
+@Table(name = "stored_images", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_stored_images_url", columnNames = {"url"}),
+    @UniqueConstraint(name = "uk_stored_images_content_hash", columnNames = {"content_hash"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StoredImage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 1000)
+    private String url;
+
+    @Column(name = "thumbnail_url", length = 1000)
+    private String thumbnailUrl;
+
+    @Column(name = "medium_url", length = 1000)
+    private String mediumUrl;
+
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    private Integer width;
+
+    private Integer height;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
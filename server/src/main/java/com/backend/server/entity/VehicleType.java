@@ -0,0 +1,120 @@
+package com.backend.server.entity;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/** Bits of {@code parking_spaces.vehicle_type_mask}; never reuse a bit. */
+public enum VehicleType {
+    BIKE(0, "Bike", "motorbike", "motorcycle", "scooter", "two wheeler", "two-wheeler", "2 wheeler", "2-wheeler"),
+    CAR(1, "Car", "sedan", "hatchback", "four wheeler", "four-wheeler", "4 wheeler", "4-wheeler"),
+    SUV(2, "SUV", "jeep"),
+    VAN(3, "Van", "minivan"),
+    TRUCK(4, "Truck", "lorry", "pickup"),
+    BUS(5, "Bus", "minibus"),
+    BICYCLE(6, "Bicycle", "cycle");
+
+    private static final Map<String, VehicleType> BY_NAME = new HashMap<>();
+
+    public static final int ALL_MASK;
+
+    static {
+        for (VehicleType type : values()) {
+            BY_NAME.put(type.label.toLowerCase(Locale.ROOT), type);
+            BY_NAME.put(type.name().toLowerCase(Locale.ROOT), type);
+            for (String alias : type.aliases) {
+                BY_NAME.put(alias, type);
+            }
+            // Plurals: "cars", "bikes", "buses"
+            BY_NAME.putIfAbsent(type.label.toLowerCase(Locale.ROOT) + "s", type);
+            BY_NAME.putIfAbsent(type.label.toLowerCase(Locale.ROOT) + "es", type);
+        }
+        int all = 0;
+        for (VehicleType type : values()) {
+            all |= type.bit;
+        }
+        ALL_MASK = all;
+    }
+
+    private final int bit;
+    private final String label;
+    private final String[] aliases;
+
+    VehicleType(int bitIndex, String label, String... aliases) {
+        this.bit = 1 << bitIndex;
+        this.label = label;
+        this.aliases = aliases;
+    }
+
+    public int bit() {
+        return bit;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    /** Case-insensitive lookup by label, constant name, alias or simple plural; null if unknown. */
+    public static VehicleType fromName(String name) {
+        return name == null ? null : BY_NAME.get(name.trim().toLowerCase(Locale.ROOT));
+    }
+
+    /** Mask for a list such as "Car, Bike / SUV"; throws IllegalArgumentException on unknown types. */
+    public static int parseMask(String text) {
+        Parsed parsed = parse(text);
+        if (!parsed.unknown().isEmpty()) {
+            throw new IllegalArgumentException("Unknown vehicle type(s): " + String.join(", ", parsed.unknown())
+                    + ". Accepted: " + describe(ALL_MASK));
+        }
+        if (parsed.mask() == 0) {
+            throw new IllegalArgumentException("At least one vehicle type is required");
+        }
+        return parsed.mask();
+    }
+
+    /** Mask of the recognized types in {@code text} plus the tokens that were not recognized. */
+    public static Parsed parse(String text) {
+        int mask = 0;
+        Set<String> unknown = new LinkedHashSet<>();
+        if (text != null) {
+            for (String token : text.split("[,;/|&+]|\\band\\b")) {
+                String name = token.trim();
+                if (name.isEmpty()) {
+                    continue;
+                }
+                VehicleType type = fromName(name);
+                if (type == null) {
+                    unknown.add(name);
+                } else {
+                    mask |= type.bit;
+                }
+            }
+        }
+        return new Parsed(mask, unknown);
+    }
+
+    public static Set<VehicleType> fromMask(int mask) {
+        Set<VehicleType> types = EnumSet.noneOf(VehicleType.class);
+        for (VehicleType type : values()) {
+            if ((mask & type.bit) != 0) {
+                types.add(type);
+            }
+        }
+        return types;
+    }
+
+    public static String describe(int mask) {
+        StringJoiner joiner = new StringJoiner(", ");
+        for (VehicleType type : fromMask(mask)) {
+            joiner.add(type.label);
+        }
+        return joiner.toString();
+    }
+
+    public record Parsed(int mask, Set<String> unknown) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.backend.server.repository;
+
+import com.backend.server.entity.ParkingSpaceImage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+@Repository
+public interface ParkingSpaceImageRepository extends JpaRepository<ParkingSpaceImage, Long> {
+
+    /** Images of a whole page of spaces in one query, grouped by space and in display order. */
+    List<ParkingSpaceImage> findBySpaceIdInOrderBySpaceIdAscPositionAsc(Collection<Long> spaceIds);
+
+    List<ParkingSpaceImage> findBySpaceIdOrderByPositionAsc(Long spaceId);
+
+    /** Which of the given spaces already have at least one image row. */
+    @Query("select distinct i.spaceId from ParkingSpaceImage i where i.spaceId in :spaceIds")
+    Set<Long> findSpaceIdsWithImages(@Param("spaceIds") Collection<Long> spaceIds);
+
+    @Modifying
+    @Query("delete from ParkingSpaceImage i where i.spaceId = :spaceId")
+    int deleteBySpaceId(@Param("spaceId") Long spaceId);
+}
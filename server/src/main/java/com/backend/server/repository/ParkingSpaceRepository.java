@@ -1,13 +1,56 @@
 package com.backend.server.repository;
 
+import com.backend.server.dto.SpaceAddress;
+import com.backend.server.dto.SpaceListItem;
+import com.backend.server.dto.SpaceLocation;
 import com.backend.server.entity.ParkingSpace;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface ParkingSpaceRepository extends JpaRepository<ParkingSpace, Long> {
+public interface ParkingSpaceRepository extends JpaRepository<ParkingSpace, Long>, ParkingSpaceSearchRepository {
 
-    List<ParkingSpace> findByOwnerIdOrderByCreatedAtDesc(Long ownerId);
+    String LIST_ITEM = """
+            select new com.backend.server.dto.SpaceListItem(
+                s.id, s.ownerId, s.address, s.squareFeet, s.vehicleTypes,
+                s.rentPerHour, s.rentPerDay, s.rentMonthly, s.latitude, s.longitude, s.createdAt,
+                s.version, coalesce(s.updatedAt, s.createdAt))
+            from ParkingSpace s
+            """;
+
+    @Query(LIST_ITEM + "where s.id in :ids")
+    List<SpaceListItem> findListItemsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+            select new com.backend.server.dto.SpaceLocation(s.id, s.latitude, s.longitude, s.vehicleTypeMask)
+            from ParkingSpace s
+            where s.latitude is not null and s.longitude is not null""")
+    Stream<SpaceLocation> streamAllLocations();
+
+    @Query("select new com.backend.server.dto.SpaceAddress(s.id, s.address) from ParkingSpace s")
+    Stream<SpaceAddress> streamAllAddresses();
+
+    List<ParkingSpace> findTop500ByVehicleTypeMaskAndIdGreaterThanOrderByIdAsc(int vehicleTypeMask, Long id);
+
+    List<ParkingSpace> findTop500ByLegacyImageUrlsIsNotNullAndIdGreaterThanOrderByIdAsc(Long id);
+
+    @Query(LIST_ITEM + "where s.ownerId = :ownerId order by s.createdAt desc, s.id desc")
+    List<SpaceListItem> findListItemsByOwnerId(@Param("ownerId") Long ownerId);
+
+    /** First keyset page, newest first; backed by idx_parking_spaces_created_at_id. */
+    @Query(LIST_ITEM + "order by s.createdAt desc, s.id desc")
+    List<SpaceListItem> findNewest(Limit limit);
+
+    @Query(LIST_ITEM + """
+            where s.createdAt < :createdAt or (s.createdAt = :createdAt and s.id < :id)
+            order by s.createdAt desc, s.id desc""")
+    List<SpaceListItem> findOlderThan(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
 }
@@ -0,0 +1,15 @@
+package com.backend.server.repository;
+
+import com.backend.server.dto.SpaceListItem;
+import com.backend.server.entity.ParkingSpace;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/** Dynamic listing queries; implemented with the Criteria API in {@link ParkingSpaceSearchRepositoryImpl}. */
+public interface ParkingSpaceSearchRepository {
+
+    /** Spaces matching {@code spec} as list items, newest first (createdAt desc, id desc). */
+    List<SpaceListItem> findListItems(Specification<ParkingSpace> spec, Limit limit);
+}
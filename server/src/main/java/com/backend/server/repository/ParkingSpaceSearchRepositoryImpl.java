@@ -0,0 +1,45 @@
+package com.backend.server.repository;
+
+import com.backend.server.dto.SpaceListItem;
+import com.backend.server.entity.ParkingSpace;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+class ParkingSpaceSearchRepositoryImpl implements ParkingSpaceSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<SpaceListItem> findListItems(Specification<ParkingSpace> spec, Limit limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<SpaceListItem> query = cb.createQuery(SpaceListItem.class);
+        Root<ParkingSpace> s = query.from(ParkingSpace.class);
+        query.select(cb.construct(SpaceListItem.class,
+                s.get("id"), s.get("ownerId"), s.get("address"), s.get("squareFeet"), s.get("vehicleTypes"),
+                s.get("rentPerHour"), s.get("rentPerDay"), s.get("rentMonthly"),
+                s.get("latitude"), s.get("longitude"), s.get("createdAt"),
+                s.get("version"), cb.coalesce(s.<LocalDateTime>get("updatedAt"), s.<LocalDateTime>get("createdAt"))));
+        Predicate predicate = spec.toPredicate(s, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(cb.desc(s.get("createdAt")), cb.desc(s.get("id")));
+
+        TypedQuery<SpaceListItem> typed = entityManager.createQuery(query);
+        if (limit.isLimited()) {
+            typed.setMaxResults(limit.max());
+        }
+        return typed.getResultList();
+    }
+}
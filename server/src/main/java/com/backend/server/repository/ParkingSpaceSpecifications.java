@@ -0,0 +1,46 @@
+package com.backend.server.repository;
+
+import com.backend.server.entity.ParkingSpace;
+import com.backend.server.util.SpaceCursor;
+import org.springframework.data.jpa.domain.Specification;
+
+/** Search predicates; null bounds yield an unrestricted specification. */
+public final class ParkingSpaceSpecifications {
+
+    private ParkingSpaceSpecifications() {
+    }
+
+    public static <V extends Comparable<? super V>> Specification<ParkingSpace> between(String attribute, V min, V max) {
+        if (min == null && max == null) {
+            return Specification.unrestricted();
+        }
+        return (root, query, cb) -> {
+            if (min != null && max != null) {
+                return cb.between(root.get(attribute), min, max);
+            }
+            return min != null
+                    ? cb.greaterThanOrEqualTo(root.get(attribute), min)
+                    : cb.lessThanOrEqualTo(root.get(attribute), max);
+        };
+    }
+
+    /** Spaces accepting every {@link com.backend.server.entity.VehicleType} in {@code mask}: {@code (vehicle_type_mask & mask) = mask}. */
+    public static Specification<ParkingSpace> acceptsVehicleTypes(int mask) {
+        if (mask == 0) {
+            return Specification.unrestricted();
+        }
+        return (root, query, cb) -> cb.equal(
+                cb.function("bitand", Integer.class, root.get("vehicleTypeMask"), cb.literal(mask)), mask);
+    }
+
+    /** Rows after the cursor in (createdAt desc, id desc) order. */
+    public static Specification<ParkingSpace> olderThan(SpaceCursor cursor) {
+        if (cursor == null) {
+            return Specification.unrestricted();
+        }
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("createdAt"), cursor.createdAt()),
+                cb.and(cb.equal(root.get("createdAt"), cursor.createdAt()), cb.lessThan(root.get("id"), cursor.id()))
+        );
+    }
+}
@@ -0,0 +1,17 @@
+package com.backend.server.repository;
+
+import com.backend.server.entity.StoredImage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface StoredImageRepository extends JpaRepository<StoredImage, Long> {
+
+    List<StoredImage> findByUrlIn(Collection<String> urls);
+
+    Optional<StoredImage> findByContentHash(String contentHash);
+}
@@ -0,0 +1,30 @@
+package com.backend.server.security;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Instant;
+import java.util.List;
+
+/** Principal built from verified token claims only; reload the User for fresh account state. */
+public record AuthenticatedUser(
+        Long id,
+        String username,
+        List<GrantedAuthority> authorities,
+        String tokenId,
+        Instant tokenExpiresAt
+) implements AuthenticatedPrincipal {
+
+    public static AuthenticatedUser of(VerifiedToken token, Long userId) {
+        List<GrantedAuthority> authorities = token.roles().stream()
+                .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                .toList();
+        return new AuthenticatedUser(userId, token.subject(), authorities, token.jti(), token.expiresAt());
+    }
+
+    @Override
+    public String getName() {
+        return username;
+    }
+}
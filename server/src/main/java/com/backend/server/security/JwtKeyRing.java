@@ -0,0 +1,164 @@
+package com.backend.server.security;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecureDigestAlgorithm;
+import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** JWT signing keys by kid; tokens without a kid use the key derived from {@code jwt.secret}. */
+@Component
+public class JwtKeyRing extends LocatorAdapter<Key> {
+
+    public enum Algorithm {
+        HS256(Jwts.SIG.HS256),
+        ED25519(Jwts.SIG.EdDSA);
+
+        private final SecureDigestAlgorithm<?, ?> jwsAlgorithm;
+
+        Algorithm(SecureDigestAlgorithm<?, ?> jwsAlgorithm) {
+            this.jwsAlgorithm = jwsAlgorithm;
+        }
+    }
+
+    /** One ring entry; for HS256 the signing and verification keys are the same secret key. */
+    public record KeyEntry(String kid, Algorithm algorithm, Key signingKey, Key verificationKey, Instant addedAt) {
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public SecureDigestAlgorithm<Key, Key> jwsAlgorithm() {
+            return (SecureDigestAlgorithm) algorithm.jwsAlgorithm;
+        }
+    }
+
+    private final Map<String, KeyEntry> keys = new ConcurrentHashMap<>();
+    private volatile KeyEntry active;
+
+    @Value("${jwt.secret}")
+    private String secret;
+
+    @Value("${jwt.kid:hs-default}")
+    private String secretKid;
+
+    @Value("${jwt.ed25519.kid:ed-default}")
+    private String ed25519Kid;
+
+    @Value("${jwt.ed25519.private-key:}")
+    private String ed25519PrivateKey;
+
+    @Value("${jwt.ed25519.public-key:}")
+    private String ed25519PublicKey;
+
+    @Value("${jwt.active-kid:}")
+    private String activeKid;
+
+    @PostConstruct
+    void init() throws GeneralSecurityException {
+        Key secretKey = deriveSecretKey(secret);
+        add(new KeyEntry(secretKid, Algorithm.HS256, secretKey, secretKey, Instant.now()));
+        if (!ed25519PrivateKey.isBlank() && !ed25519PublicKey.isBlank()) {
+            KeyFactory keyFactory = KeyFactory.getInstance("Ed25519");
+            add(new KeyEntry(ed25519Kid, Algorithm.ED25519,
+                    keyFactory.generatePrivate(new PKCS8EncodedKeySpec(Base64.getDecoder().decode(ed25519PrivateKey))),
+                    keyFactory.generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(ed25519PublicKey))),
+                    Instant.now()));
+        }
+        activate(activeKid.isBlank() ? secretKid : activeKid);
+    }
+
+    public KeyEntry active() {
+        return active;
+    }
+
+    public Collection<KeyEntry> keys() {
+        return keys.values();
+    }
+
+    public boolean contains(String kid) {
+        return keys.containsKey(kid);
+    }
+
+    /** The kid assumed for tokens whose header has none. */
+    public String legacyKid() {
+        return secretKid;
+    }
+
+    public void add(KeyEntry entry) {
+        if (keys.putIfAbsent(entry.kid(), entry) != null) {
+            throw new IllegalArgumentException("Key already exists: " + entry.kid());
+        }
+    }
+
+    public void activate(String kid) {
+        KeyEntry entry = keys.get(kid);
+        if (entry == null) {
+            throw new IllegalArgumentException("Unknown key: " + kid);
+        }
+        active = entry;
+    }
+
+    /** Removes a key; tokens signed with it stop verifying. The active key cannot be retired. */
+    public void retire(String kid) {
+        if (active != null && active.kid().equals(kid)) {
+            throw new IllegalStateException("Cannot retire the active key: " + kid);
+        }
+        if (keys.remove(kid) == null) {
+            throw new IllegalArgumentException("Unknown key: " + kid);
+        }
+    }
+
+    /** In-memory only; does not survive a restart. */
+    public KeyEntry generate(Algorithm algorithm) throws GeneralSecurityException {
+        String kid = algorithm.name().toLowerCase() + "-" + UUID.randomUUID().toString().substring(0, 8);
+        KeyEntry entry = switch (algorithm) {
+            case HS256 -> {
+                byte[] bytes = new byte[32];
+                new SecureRandom().nextBytes(bytes);
+                Key key = Keys.hmacShaKeyFor(bytes);
+                yield new KeyEntry(kid, algorithm, key, key, Instant.now());
+            }
+            case ED25519 -> {
+                KeyPair pair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+                yield new KeyEntry(kid, algorithm, pair.getPrivate(), pair.getPublic(), Instant.now());
+            }
+        };
+        add(entry);
+        return entry;
+    }
+
+    @Override
+    protected Key locate(JwsHeader header) {
+        String kid = header.getKeyId() != null ? header.getKeyId() : secretKid;
+        KeyEntry entry = keys.get(kid);
+        if (entry == null) {
+            throw new SignatureException("Unknown signing key: " + kid);
+        }
+        return entry.verificationKey();
+    }
+
+    /** SHA-256 of the secret so any secret length yields a 256-bit HMAC key. */
+    static Key deriveSecretKey(String secret) throws GeneralSecurityException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        return Keys.hmacShaKeyFor(digest.digest(secret.getBytes(StandardCharsets.UTF_8)));
+    }
+}
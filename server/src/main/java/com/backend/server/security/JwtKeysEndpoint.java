@@ -0,0 +1,47 @@
+package com.backend.server.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.security.GeneralSecurityException;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+
+/** Actuator endpoint for the {@link JwtKeyRing}; not exposed over HTTP by default. */
+@Component
+@Endpoint(id = "jwtkeys")
+@RequiredArgsConstructor
+public class JwtKeysEndpoint {
+
+    private final JwtKeyRing keyRing;
+
+    public record KeyInfo(String kid, String algorithm, boolean active, Instant addedAt) {
+    }
+
+    @ReadOperation
+    public List<KeyInfo> keys() {
+        String activeKid = keyRing.active().kid();
+        return keyRing.keys().stream()
+                .sorted(Comparator.comparing(JwtKeyRing.KeyEntry::addedAt))
+                .map(k -> new KeyInfo(k.kid(), k.algorithm().name(), k.kid().equals(activeKid), k.addedAt()))
+                .toList();
+    }
+
+    @WriteOperation
+    public KeyInfo rotate(String algorithm) throws GeneralSecurityException {
+        JwtKeyRing.KeyEntry entry = keyRing.generate(JwtKeyRing.Algorithm.valueOf(algorithm.toUpperCase()));
+        keyRing.activate(entry.kid());
+        return new KeyInfo(entry.kid(), entry.algorithm().name(), true, entry.addedAt());
+    }
+
+    @DeleteOperation
+    public void retire(@Selector String kid) {
+        keyRing.retire(kid);
+    }
+}
@@ -0,0 +1,143 @@
+package com.backend.server.security;
+
+import com.backend.server.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/** Sliding-window failure counters per username and per IP, checked before any BCrypt work. */
+@Component
+public class LoginThrottle {
+
+    private static final int SLOTS = 10;
+    /** Low bits of a bucket hold its count (saturating); the rest hold the slot number, which fits 43 bits. */
+    private static final int COUNT_BITS = 21;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    private final ConcurrentMap<String, SlidingWindowCounter> counters = new ConcurrentHashMap<>();
+    private final long slotMillis;
+    private final long windowMillis;
+    private final int maxFailuresPerUsername;
+    private final int maxFailuresPerIp;
+    private final int maxRegistrationsPerIp;
+    private final Counter rejections;
+
+    public LoginThrottle(
+            @Value("${security.login-throttle.window-seconds:900}") long windowSeconds,
+            @Value("${security.login-throttle.max-failures-per-username:5}") int maxFailuresPerUsername,
+            @Value("${security.login-throttle.max-failures-per-ip:20}") int maxFailuresPerIp,
+            @Value("${security.login-throttle.max-registrations-per-ip:10}") int maxRegistrationsPerIp,
+            MeterRegistry meterRegistry
+    ) {
+        this.slotMillis = Math.max(1, windowSeconds * 1000 / SLOTS);
+        this.windowMillis = slotMillis * SLOTS;
+        this.maxFailuresPerUsername = maxFailuresPerUsername;
+        this.maxFailuresPerIp = maxFailuresPerIp;
+        this.maxRegistrationsPerIp = maxRegistrationsPerIp;
+        this.rejections = Counter.builder("auth.throttle.rejections")
+                .description("Login and registration attempts rejected by the throttle")
+                .register(meterRegistry);
+        Gauge.builder("auth.throttle.tracked-keys", counters, ConcurrentMap::size)
+                .register(meterRegistry);
+    }
+
+    /** @throws TooManyRequestsException if the username or the client IP has too many recent failures */
+    public void checkLogin(String username, String clientIp) {
+        long now = System.currentTimeMillis();
+        if (count(usernameKey(username), now) >= maxFailuresPerUsername
+                || count(ipKey(clientIp), now) >= maxFailuresPerIp) {
+            rejections.increment();
+            throw new TooManyRequestsException("Too many failed login attempts, please try again later");
+        }
+    }
+
+    public void loginFailed(String username, String clientIp) {
+        long now = System.currentTimeMillis();
+        counter(usernameKey(username)).increment(now);
+        counter(ipKey(clientIp)).increment(now);
+    }
+
+    public void loginSucceeded(String username) {
+        counters.remove(usernameKey(username));
+    }
+
+    public void checkRegistration(String clientIp) {
+        long now = System.currentTimeMillis();
+        if (counter("register:" + clientIp).increment(now) > maxRegistrationsPerIp) {
+            rejections.increment();
+            throw new TooManyRequestsException("Too many registrations from this address, please try again later");
+        }
+    }
+
+    public int trackedKeys() {
+        return counters.size();
+    }
+
+    @Scheduled(fixedDelayString = "${security.login-throttle.sweep-interval-ms:60000}")
+    public void evictIdle() {
+        long cutoff = System.currentTimeMillis() - windowMillis;
+        counters.values().removeIf(c -> c.lastUpdated < cutoff);
+    }
+
+    private int count(String key, long now) {
+        SlidingWindowCounter counter = counters.get(key);
+        return counter != null ? counter.sum(now) : 0;
+    }
+
+    private SlidingWindowCounter counter(String key) {
+        return counters.computeIfAbsent(key, k -> new SlidingWindowCounter());
+    }
+
+    private static String usernameKey(String username) {
+        return "user:" + username;
+    }
+
+    private static String ipKey(String clientIp) {
+        return "ip:" + clientIp;
+    }
+
+    /** Each bucket packs its slot number and count into one long, so roll-over and increment are one CAS. */
+    private final class SlidingWindowCounter {
+
+        private final AtomicLongArray buckets = new AtomicLongArray(SLOTS);
+        private volatile long lastUpdated;
+
+        int increment(long now) {
+            long slot = now / slotMillis;
+            int index = (int) (slot % SLOTS);
+            long current;
+            long next;
+            do {
+                current = buckets.get(index);
+                long owner = current >>> COUNT_BITS;
+                if (owner >= slot) {
+                    // Same slot, or a racing caller with a slightly later clock already rolled it: count there
+                    next = (owner << COUNT_BITS) | Math.min((current & COUNT_MASK) + 1, COUNT_MASK);
+                } else {
+                    next = (slot << COUNT_BITS) | 1;
+                }
+            } while (!buckets.compareAndSet(index, current, next));
+            lastUpdated = now;
+            return sum(now);
+        }
+
+        int sum(long now) {
+            long oldest = now / slotMillis - SLOTS + 1;
+            int total = 0;
+            for (int i = 0; i < SLOTS; i++) {
+                long bucket = buckets.get(i);
+                if (bucket >>> COUNT_BITS >= oldest) {
+                    total += (int) (bucket & COUNT_MASK);
+                }
+            }
+            return total;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.backend.server.security;
+
+import com.backend.server.service.ConversationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** Per-session user id and granted conversations; refusals are not cached. */
+@Component
+@RequiredArgsConstructor
+public class StompSessionAuthorizations {
+
+    private final ConversationService conversationService;
+
+    private final Map<String, SessionGrant> sessions = new ConcurrentHashMap<>();
+
+    private record SessionGrant(Long userId, Set<Long> conversationIds) {
+    }
+
+    public void open(String sessionId, Long userId) {
+        sessions.put(sessionId, new SessionGrant(userId, ConcurrentHashMap.newKeySet()));
+    }
+
+    /** The user id bound at CONNECT, or null if the session never authenticated. */
+    public Long userId(String sessionId) {
+        SessionGrant grant = sessions.get(sessionId);
+        return grant != null ? grant.userId() : null;
+    }
+
+    public boolean canUseConversation(String sessionId, Long conversationId) {
+        SessionGrant grant = sessions.get(sessionId);
+        if (grant == null || conversationId == null) {
+            return false;
+        }
+        if (grant.conversationIds().contains(conversationId)) {
+            return true;
+        }
+        if (conversationService.isParticipant(conversationId, grant.userId())) {
+            grant.conversationIds().add(conversationId);
+            return true;
+        }
+        return false;
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        sessions.remove(event.getSessionId());
+    }
+
+    public int sessionCount() {
+        return sessions.size();
+    }
+}
@@ -0,0 +1,79 @@
+package com.backend.server.security;
+
+import com.backend.server.entity.RevokedToken;
+import com.backend.server.repository.RevokedTokenRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/** Revoked access tokens by jti, bucketed by expiry and persisted to {@code revoked_tokens}. */
+@Component
+@RequiredArgsConstructor
+public class TokenDenylist {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private final NavigableMap<Long, Set<String>> buckets = new ConcurrentSkipListMap<>();
+
+    @Value("${jwt.denylist.bucket-seconds:60}")
+    private long bucketSeconds;
+
+    public boolean isRevoked(String jti) {
+        return jti != null && !revoked.isEmpty() && revoked.containsKey(jti);
+    }
+
+    @Transactional
+    public void revoke(String jti, Instant expiresAt) {
+        if (jti == null || expiresAt == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        revokedTokenRepository.save(RevokedToken.builder()
+                .jti(jti)
+                .expiresAt(expiresAt)
+                .build());
+        remember(jti, expiresAt);
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        revokedTokenRepository.findByExpiresAtAfter(Instant.now())
+                .forEach(t -> remember(t.getJti(), t.getExpiresAt()));
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.denylist.sweep-interval-ms:60000}")
+    @Transactional
+    public void sweep() {
+        Instant now = Instant.now();
+        NavigableMap<Long, Set<String>> expired = buckets.headMap(bucketOf(now), false);
+        expired.values().forEach(jtis -> jtis.forEach(revoked::remove));
+        expired.clear();
+        revokedTokenRepository.deleteExpiredBefore(now);
+    }
+
+    private void remember(String jti, Instant expiresAt) {
+        long bucket = bucketOf(expiresAt);
+        buckets.computeIfAbsent(bucket, b -> ConcurrentHashMap.newKeySet()).add(jti);
+        revoked.put(jti, bucket);
+    }
+
+    /** Buckets are identified by their end; a bucket may be dropped once that end has passed. */
+    private long bucketOf(Instant instant) {
+        return Math.floorDiv(instant.getEpochSecond(), bucketSeconds) + 1;
+    }
+}
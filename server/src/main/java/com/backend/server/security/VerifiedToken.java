@@ -0,0 +1,20 @@
+package com.backend.server.security;
+
+import java.time.Instant;
+import java.util.List;
+
+/** {@code userId} and {@code jti} are null for tokens issued before those claims existed. */
+public record VerifiedToken(
+        String kid,
+        String jti,
+        String subject,
+        Long userId,
+        List<String> roles,
+        Instant issuedAt,
+        Instant expiresAt
+) {
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !expiresAt.isAfter(now);
+    }
+}
@@ -1,54 +1,103 @@
 package com.backend.server.service;
 
 import com.backend.server.dto.AuthResponse;
+import com.backend.server.dto.AvailabilityResponse;
 import com.backend.server.dto.LoginRequest;
 import com.backend.server.dto.RegisterRequest;
 import com.backend.server.entity.User;
+import com.backend.server.security.AuthenticatedUser;
+import com.backend.server.security.LoginThrottle;
+import com.backend.server.security.TokenDenylist;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
     private final UserService userService;
     private final JwtService jwtService;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenDenylist tokenDenylist;
     private final AuthenticationManager authenticationManager;
+    private final PasswordVerificationService passwordVerificationService;
+    private final UserAvailabilityService userAvailabilityService;
+    private final LoginThrottle loginThrottle;
 
     @Transactional
-    public AuthResponse register(RegisterRequest request) {
+    public AuthResponse register(RegisterRequest request, String clientIp) {
+        loginThrottle.checkRegistration(clientIp);
         User user = userService.registerUser(request);
-        String token = jwtService.generateToken(user);
-
-        return AuthResponse.builder()
-                .token(token)
-                .username(user.getUsername())
-                .email(user.getEmail())
-                .name(user.getName())
-                .phone(user.getPhone())
-                .address(user.getAddress())
-                .build();
+        return toAuthResponse(user, refreshTokenService.issue(user.getId()));
     }
 
-    public AuthResponse login(LoginRequest request) {
-        Authentication authentication = authenticationManager.authenticate(
+    /** Password verification runs on the {@link PasswordVerificationService} pool. */
+    public CompletableFuture<AuthResponse> login(LoginRequest request, String clientIp) {
+        loginThrottle.checkLogin(request.getUsername(), clientIp);
+        return passwordVerificationService.submit(() -> authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
                         request.getUsername(),
                         request.getPassword()
                 )
-        );
+        )).whenComplete((authentication, ex) -> {
+            Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+            if (cause instanceof AuthenticationException) {
+                loginThrottle.loginFailed(request.getUsername(), clientIp);
+            } else if (cause == null) {
+                loginThrottle.loginSucceeded(request.getUsername());
+            }
+        }).thenApply(authentication -> {
+            User user = (User) authentication.getPrincipal();
+            return toAuthResponse(user, refreshTokenService.issue(user.getId()));
+        });
+    }
 
-        SecurityContextHolder.getContext().setAuthentication(authentication);
-        User user = (User) authentication.getPrincipal();
-        String token = jwtService.generateToken(user);
+    public AvailabilityResponse checkAvailability(String username, String email) {
+        if ((username == null || username.isBlank()) && (email == null || email.isBlank())) {
+            throw new IllegalArgumentException("username or email is required");
+        }
+        return AvailabilityResponse.builder()
+                .username(username)
+                .usernameAvailable(username != null && !username.isBlank()
+                        ? userAvailabilityService.isUsernameAvailable(username) : null)
+                .email(email)
+                .emailAvailable(email != null && !email.isBlank()
+                        ? userAvailabilityService.isEmailAvailable(email) : null)
+                .build();
+    }
+
+    /** Not transactional: a detected reuse revokes the family and then throws, and that must commit. */
+    public AuthResponse refresh(String refreshToken) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshToken);
+        User user = userService.findById(rotation.userId());
+        return toAuthResponse(user, rotation.refreshToken());
+    }
+
+    public void logout(String refreshToken) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.getPrincipal() instanceof AuthenticatedUser user) {
+            tokenDenylist.revoke(user.tokenId(), user.tokenExpiresAt());
+        }
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            refreshTokenService.revoke(refreshToken);
+        }
+        SecurityContextHolder.clearContext();
+    }
 
+    private AuthResponse toAuthResponse(User user, String refreshToken) {
         return AuthResponse.builder()
-                .token(token)
+                .token(jwtService.generateToken(user))
+                .refreshToken(refreshToken)
+                .expiresIn(jwtService.getAccessTokenTtlSeconds())
                 .username(user.getUsername())
                 .email(user.getEmail())
                 .name(user.getName())
@@ -56,8 +105,4 @@ public class AuthService {
                 .address(user.getAddress())
                 .build();
     }
-
-    public void logout() {
-        SecurityContextHolder.clearContext();
-    }
 }
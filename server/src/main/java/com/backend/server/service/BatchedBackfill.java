@@ -0,0 +1,29 @@
+package com.backend.server.service;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/** Startup migration in id order, one transaction per batch, so an interrupted run resumes. */
+abstract class BatchedBackfill {
+
+    private final TransactionTemplate transaction;
+
+    BatchedBackfill(PlatformTransactionManager transactionManager) {
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    void runBatches() {
+        long lastId = 0;
+        while (true) {
+            long after = lastId;
+            Long last = transaction.execute(status -> migrateBatch(after));
+            if (last == null) {
+                return;
+            }
+            lastId = last;
+        }
+    }
+
+    /** Migrates the next batch after {@code afterId}; returns its highest id, or null when nothing is left. */
+    abstract Long migrateBatch(long afterId);
+}
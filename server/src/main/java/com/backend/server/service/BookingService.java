@@ -26,13 +26,11 @@ public class BookingService {
 
     private final BookingRepository bookingRepository;
     private final ParkingSpaceRepository parkingSpaceRepository;
-    private final UserService userService;
 
     @Transactional
-    public BookingResponse createBooking(Long spaceId, String username, CreateBookingRequest request) {
+    public BookingResponse createBooking(Long spaceId, Long userId, CreateBookingRequest request) {
         ParkingSpace space = parkingSpaceRepository.findById(spaceId)
                 .orElseThrow(() -> new IllegalArgumentException("Space not found: " + spaceId));
-        Long userId = userService.getUserIdByUsername(username);
 
         if (request.getSlotStart().isAfter(request.getSlotEnd())) {
             throw new IllegalArgumentException("Slot start must be before slot end");
@@ -58,10 +56,9 @@ public class BookingService {
     }
 
     @Transactional
-    public DummyPaymentResponse processDummyPayment(Long bookingId, String username) {
+    public DummyPaymentResponse processDummyPayment(Long bookingId, Long userId) {
         Booking booking = bookingRepository.findById(bookingId)
                 .orElseThrow(() -> new IllegalArgumentException("Booking not found: " + bookingId));
-        Long userId = userService.getUserIdByUsername(username);
         if (!booking.getUserId().equals(userId)) {
             throw new IllegalArgumentException("Not allowed to pay for this booking");
         }
@@ -33,6 +33,12 @@ public class ChatService {
         if (!conversationService.isParticipant(conversationId, senderId)) {
             throw new IllegalArgumentException("Not a participant of this conversation");
         }
+        return appendMessage(conversationId, senderId, plainText);
+    }
+
+    /** The caller must already have authorized the sender for this conversation. */
+    @Transactional
+    public ChatMessageResponse appendMessage(Long conversationId, Long senderId, String plainText) {
         String encrypted = messageEncryption.encrypt(plainText);
         ChatMessage msg = ChatMessage.builder()
                 .conversationId(conversationId)
@@ -14,18 +14,16 @@ public class ConversationService {
 
     private final ConversationRepository conversationRepository;
     private final ParkingSpaceRepository parkingSpaceRepository;
-    private final UserService userService;
 
     /**
      * Get or create a conversation between the current user (renter) and the space owner.
      * Current user must not be the space owner.
      */
     @Transactional
-    public ConversationResponse getOrCreate(Long spaceId, String username) {
+    public ConversationResponse getOrCreate(Long spaceId, Long renterId) {
         if (!parkingSpaceRepository.existsById(spaceId)) {
             throw new IllegalArgumentException("Space not found: " + spaceId);
         }
-        Long renterId = userService.getUserIdByUsername(username);
         var space = parkingSpaceRepository.findById(spaceId).orElseThrow();
         Long ownerId = space.getOwnerId();
         if (ownerId.equals(renterId)) {
@@ -0,0 +1,293 @@
+package com.backend.server.service;
+
+import com.backend.server.dto.ImageUploadJobResponse.Status;
+import com.backend.server.entity.StoredImage;
+import com.backend.server.dto.ImageUploadJobResponse;
+import com.backend.server.exception.BadRequestException;
+import com.backend.server.exception.PayloadTooLargeException;
+import com.backend.server.exception.ResourceNotFoundException;
+import com.backend.server.exception.TooManyRequestsException;
+import com.backend.server.util.NamedThreadFactory;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/** Runs image uploads in the background; jobs are only visible to the user who submitted them. */
+@Service
+public class ImageUploadService {
+
+    private final ImageVariantService imageVariantService;
+    private final long maxImageBytes;
+    private final int maxBatchFiles;
+    private final int batchConcurrency;
+    private final Path spoolDirectory;
+    private final ThreadPoolExecutor executor;
+    private final Cache<String, UploadJob> jobs;
+    private final Timer processingTimer;
+    private final Timer queueWaitTimer;
+    private final Counter rejectedCounter;
+    private final Counter failedCounter;
+
+    public ImageUploadService(
+            ImageVariantService imageVariantService,
+            @Value("${spaces.images.max-bytes:10485760}") long maxImageBytes,
+            @Value("${spaces.images.upload.threads:8}") int threads,
+            @Value("${spaces.images.upload.queue-capacity:32}") int queueCapacity,
+            @Value("${spaces.images.upload.job-ttl:1h}") Duration jobTtl,
+            @Value("${spaces.images.upload.batch-max-files:10}") int maxBatchFiles,
+            @Value("${spaces.images.upload.batch-concurrency:3}") int batchConcurrency,
+            MeterRegistry meterRegistry
+    ) throws IOException {
+        this.imageVariantService = imageVariantService;
+        this.maxImageBytes = maxImageBytes;
+        this.maxBatchFiles = maxBatchFiles;
+        this.batchConcurrency = Math.max(1, batchConcurrency);
+        this.spoolDirectory = Files.createTempDirectory("image-uploads-");
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new NamedThreadFactory("image-upload-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.jobs = Caffeine.newBuilder()
+                .expireAfterWrite(jobTtl)
+                .build();
+        this.processingTimer = Timer.builder("spaces.images.upload.processing")
+                .description("Time spent storing an uploaded image")
+                .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("spaces.images.upload.queue.wait")
+                .description("Time an upload waited for a worker")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("spaces.images.upload.rejected")
+                .description("Uploads rejected because the queue was full")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("spaces.images.upload.failed")
+                .description("Uploads that could not be stored")
+                .register(meterRegistry);
+        Gauge.builder("spaces.images.upload.queue.depth", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("spaces.images.upload.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+    }
+
+    public ImageUploadJobResponse submit(Long ownerId, MultipartFile file) throws IOException {
+        validate(file);
+        // Saturated before the part is copied anywhere: fail fast rather than spool a file that will be dropped
+        reserveQueue(1);
+        UploadJob job = spool(ownerId, file);
+        try {
+            schedule(job, null);
+        } catch (RejectedExecutionException e) {
+            discard(job);
+            throw new TooManyRequestsException("Too many image uploads in progress, please retry shortly");
+        }
+        return job.toResponse();
+    }
+
+    /** One entry per file in request order; invalid files come back as FAILED entries without a job id. */
+    public List<ImageUploadJobResponse> submitBatch(Long ownerId, List<MultipartFile> files) throws IOException {
+        if (files == null || files.isEmpty()) {
+            throw new BadRequestException("At least one image file is required");
+        }
+        if (files.size() > maxBatchFiles) {
+            throw new BadRequestException("At most " + maxBatchFiles + " images can be uploaded at once");
+        }
+        List<String> errors = new ArrayList<>(files.size());
+        int valid = 0;
+        for (MultipartFile file : files) {
+            String error = null;
+            try {
+                validate(file);
+                valid++;
+            } catch (BadRequestException | PayloadTooLargeException e) {
+                error = e.getMessage();
+            }
+            errors.add(error);
+        }
+        if (valid > 0) {
+            reserveQueue(Math.min(valid, batchConcurrency));
+        }
+
+        Batch batch = new Batch();
+        List<ImageUploadJobResponse> results = new ArrayList<>(files.size());
+        List<UploadJob> accepted = new ArrayList<>(valid);
+        for (int i = 0; i < files.size(); i++) {
+            if (errors.get(i) != null) {
+                results.add(new ImageUploadJobResponse(null, Status.FAILED, null, null, null, errors.get(i)));
+                continue;
+            }
+            UploadJob job = spool(ownerId, files.get(i));
+            accepted.add(job);
+            results.add(job.toResponse());
+        }
+        int running = Math.min(accepted.size(), batchConcurrency);
+        // Queue the tail first: a job finishing early must already find its successor
+        batch.pending.addAll(accepted.subList(running, accepted.size()));
+        int scheduled = 0;
+        for (UploadJob job : accepted.subList(0, running)) {
+            try {
+                schedule(job, batch);
+                scheduled++;
+            } catch (RejectedExecutionException e) {
+                // Another request took the capacity reserveQueue saw; the slots that did start cover the pending files
+                failQueueFull(job);
+            }
+        }
+        if (scheduled == 0) {
+            for (UploadJob job = batch.pending.poll(); job != null; job = batch.pending.poll()) {
+                failQueueFull(job);
+            }
+        }
+        return results;
+    }
+
+    public ImageUploadJobResponse getStatus(Long ownerId, String jobId) {
+        UploadJob job = jobs.getIfPresent(jobId);
+        if (job == null || !job.ownerId.equals(ownerId)) {
+            throw new ResourceNotFoundException("Upload job not found: " + jobId);
+        }
+        return job.toResponse();
+    }
+
+    private void validate(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new BadRequestException("Image file is required");
+        }
+        if (file.getSize() > maxImageBytes) {
+            throw new PayloadTooLargeException("Image exceeds the " + maxImageBytes + "-byte limit");
+        }
+    }
+
+    private void reserveQueue(int slots) {
+        if (executor.getQueue().remainingCapacity() < slots) {
+            rejectedCounter.increment();
+            throw new TooManyRequestsException("Too many image uploads in progress, please retry shortly");
+        }
+    }
+
+    private UploadJob spool(Long ownerId, MultipartFile file) throws IOException {
+        UploadJob job = new UploadJob(UUID.randomUUID().toString(), ownerId,
+                file.getOriginalFilename(), file.getContentType(), spoolDirectory.resolve(UUID.randomUUID() + ".upload"));
+        // The container deletes the multipart part when the request ends; on disk this is usually a rename
+        file.transferTo(job.spool.toFile());
+        jobs.put(job.id, job);
+        return job;
+    }
+
+    /** A worker that starts a batch job keeps its slot and runs the batch's pending jobs after it. */
+    private void schedule(UploadJob job, Batch batch) {
+        long enqueuedAt = System.nanoTime();
+        executor.execute(() -> {
+            queueWaitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+            for (UploadJob current = job; current != null; current = batch != null ? batch.pending.poll() : null) {
+                UploadJob running = current;
+                processingTimer.record(() -> process(running));
+            }
+        });
+    }
+
+    private void failQueueFull(UploadJob job) {
+        job.error = "Upload queue is full, please retry";
+        job.status = Status.FAILED;
+        deleteSpool(job);
+        rejectedCounter.increment();
+    }
+
+    private void discard(UploadJob job) {
+        jobs.invalidate(job.id);
+        deleteSpool(job);
+        rejectedCounter.increment();
+    }
+
+    private static void deleteSpool(UploadJob job) {
+        try {
+            Files.deleteIfExists(job.spool);
+        } catch (IOException ignored) {
+            // Removed with the spool directory on shutdown
+        }
+    }
+
+    private void process(UploadJob job) {
+        job.status = Status.PROCESSING;
+        try {
+            StoredImage stored = imageVariantService.store(job.spool, job.filename, job.contentType);
+            job.thumbnailUrl = stored.getThumbnailUrl();
+            job.mediumUrl = stored.getMediumUrl();
+            job.url = stored.getUrl();
+            job.status = Status.DONE;
+        } catch (Exception e) {
+            failedCounter.increment();
+            job.error = e.getMessage() != null ? e.getMessage() : "Image upload failed";
+            job.status = Status.FAILED;
+        } finally {
+            deleteSpool(job);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws IOException {
+        executor.shutdownNow();
+        try (var leftovers = Files.list(spoolDirectory)) {
+            for (Path path : leftovers.toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+        Files.deleteIfExists(spoolDirectory);
+    }
+
+    private static final class Batch {
+
+        private final Queue<UploadJob> pending = new ConcurrentLinkedQueue<>();
+    }
+
+    private static final class UploadJob {
+
+        private final String id;
+        private final Long ownerId;
+        private final String filename;
+        private final String contentType;
+        private final Path spool;
+        // Written by the worker, read by status requests
+        private volatile Status status = Status.QUEUED;
+        private volatile String url;
+        private volatile String thumbnailUrl;
+        private volatile String mediumUrl;
+        private volatile String error;
+
+        private UploadJob(String id, Long ownerId, String filename, String contentType, Path spool) {
+            this.id = id;
+            this.ownerId = ownerId;
+            this.filename = filename;
+            this.contentType = contentType;
+            this.spool = spool;
+        }
+
+        private ImageUploadJobResponse toResponse() {
+            // url and error are assigned before status, so reading status first never sees DONE without a url
+            Status current = status;
+            return new ImageUploadJobResponse(id, current, url, thumbnailUrl, mediumUrl, error);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.backend.server.service;
+
+import com.backend.server.entity.StoredImage;
+import com.backend.server.repository.StoredImageRepository;
+import com.backend.server.storage.ImageStorage;
+import com.backend.server.util.ImageResizer;
+import com.backend.server.util.NamedThreadFactory;
+import com.backend.server.util.SizeLimitedInputStream;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/** Stores an uploaded image with thumbnail and medium JPEG variants, deduplicated by content hash. */
+@Service
+public class ImageVariantService {
+
+    private static final String VARIANT_CONTENT_TYPE = "image/jpeg";
+    private static final int HASH_BUFFER_BYTES = 64 * 1024;
+
+    private final ImageStorage imageStorage;
+    private final StoredImageRepository storedImageRepository;
+    private final long maxImageBytes;
+    private final int thumbnailEdge;
+    private final int mediumEdge;
+    private final float quality;
+    private final ThreadPoolExecutor executor;
+    private final Timer variantTimer;
+    private final Counter variantFailures;
+    private final Counter dedupHits;
+    private final Counter dedupMisses;
+
+    public ImageVariantService(
+            ImageStorage imageStorage,
+            StoredImageRepository storedImageRepository,
+            @Value("${spaces.images.max-bytes:10485760}") long maxImageBytes,
+            @Value("${spaces.images.variants.thumbnail-edge:320}") int thumbnailEdge,
+            @Value("${spaces.images.variants.medium-edge:1024}") int mediumEdge,
+            @Value("${spaces.images.variants.quality:0.8}") float quality,
+            @Value("${spaces.images.variants.threads:0}") int threads,
+            @Value("${spaces.images.variants.queue-capacity:32}") int queueCapacity,
+            MeterRegistry meterRegistry
+    ) {
+        this.imageStorage = imageStorage;
+        this.storedImageRepository = storedImageRepository;
+        this.maxImageBytes = maxImageBytes;
+        this.thumbnailEdge = thumbnailEdge;
+        this.mediumEdge = mediumEdge;
+        this.quality = quality;
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new NamedThreadFactory("image-variant-"),
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        this.variantTimer = Timer.builder("spaces.images.variants.generation")
+                .description("Time spent decoding, resizing and encoding image variants")
+                .register(meterRegistry);
+        this.variantFailures = Counter.builder("spaces.images.variants.failed")
+                .description("Variants that could not be generated or stored; the original is used instead")
+                .register(meterRegistry);
+        this.dedupHits = Counter.builder("spaces.images.dedup.hits")
+                .description("Uploads whose content was already stored")
+                .register(meterRegistry);
+        this.dedupMisses = Counter.builder("spaces.images.dedup.misses")
+                .description("Uploads with new content")
+                .register(meterRegistry);
+        Gauge.builder("spaces.images.dedup.hit-ratio", this, ImageVariantService::dedupHitRatio)
+                .description("Share of uploads answered from an existing image since startup")
+                .register(meterRegistry);
+    }
+
+    /** Variant failures only drop that variant; an IOException means the original was not stored. */
+    public StoredImage store(Path source, String filename, String contentType) throws IOException {
+        String contentHash = sha256(source);
+        Optional<StoredImage> existing = storedImageRepository.findByContentHash(contentHash);
+        if (existing.isPresent()) {
+            dedupHits.increment();
+            return existing.get();
+        }
+        dedupMisses.increment();
+
+        CompletableFuture<String> original = CompletableFuture.supplyAsync(() -> {
+            try (InputStream in = new SizeLimitedInputStream(Files.newInputStream(source), maxImageBytes)) {
+                return imageStorage.store(in, filename, contentType);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, executor);
+
+        ImageResizer.Decoded decoded = decodeQuietly(source);
+        CompletableFuture<String> medium = CompletableFuture.completedFuture(null);
+        CompletableFuture<String> thumbnail = CompletableFuture.completedFuture(null);
+        if (decoded != null) {
+            medium = CompletableFuture.supplyAsync(
+                            () -> storeVariant(decoded.image(), mediumEdge, filename, "medium", original), executor)
+                    .exceptionally(this::variantFailed);
+            thumbnail = CompletableFuture.supplyAsync(
+                            () -> storeVariant(decoded.image(), thumbnailEdge, filename, "thumb", original), executor)
+                    .exceptionally(this::variantFailed);
+        }
+
+        String url;
+        try {
+            url = original.join();
+        } catch (CompletionException e) {
+            discardVariants(medium, thumbnail);
+            if (e.getCause() instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw e;
+        }
+        StoredImage stored = StoredImage.builder()
+                .url(url)
+                .mediumUrl(medium.join())
+                .thumbnailUrl(thumbnail.join())
+                .contentHash(contentHash)
+                .width(decoded != null ? decoded.width() : null)
+                .height(decoded != null ? decoded.height() : null)
+                .build();
+        try {
+            return storedImageRepository.save(stored);
+        } catch (DataIntegrityViolationException e) {
+            // The same bytes were uploaded concurrently and recorded first; reuse that record and drop this copy
+            deleteQuietly(stored.getUrl());
+            deleteQuietly(stored.getMediumUrl());
+            deleteQuietly(stored.getThumbnailUrl());
+            return storedImageRepository.findByContentHash(contentHash).orElseThrow(() -> e);
+        }
+    }
+
+    private static String sha256(Path source) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+        byte[] buffer = new byte[HASH_BUFFER_BYTES];
+        try (InputStream in = Files.newInputStream(source)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private double dedupHitRatio() {
+        double total = dedupHits.count() + dedupMisses.count();
+        return total == 0 ? 0 : dedupHits.count() / total;
+    }
+
+    private ImageResizer.Decoded decodeQuietly(Path source) {
+        try {
+            return ImageResizer.decode(source, mediumEdge);
+        } catch (IOException | RuntimeException e) {
+            // Corrupt or exotic input (CMYK JPEG, truncated PNG): keep the original, skip the variants
+            return null;
+        }
+    }
+
+    private String storeVariant(BufferedImage decoded, int maxEdge, String filename, String suffix,
+                                CompletableFuture<String> original) {
+        try {
+            byte[] encoded = variantTimer.recordCallable(
+                    () -> ImageResizer.encodeJpeg(ImageResizer.resize(decoded, maxEdge), quality));
+            if (original.isCompletedExceptionally()) {
+                return null;
+            }
+            return imageStorage.store(new ByteArrayInputStream(encoded), variantName(filename, suffix),
+                    VARIANT_CONTENT_TYPE);
+        } catch (Exception e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    @SafeVarargs
+    private void discardVariants(CompletableFuture<String>... variants) {
+        for (CompletableFuture<String> variant : variants) {
+            deleteQuietly(variant.join());
+        }
+    }
+
+    private void deleteQuietly(String url) {
+        if (url == null) {
+            return;
+        }
+        try {
+            imageStorage.delete(url);
+        } catch (IOException | RuntimeException e) {
+            // Left behind in storage; no record points at it
+        }
+    }
+
+    private String variantFailed(Throwable e) {
+        variantFailures.increment();
+        return null;
+    }
+
+    private static String variantName(String filename, String suffix) {
+        if (filename == null || filename.isBlank()) {
+            return suffix + ".jpg";
+        }
+        int dot = filename.lastIndexOf('.');
+        return (dot > 0 ? filename.substring(0, dot) : filename) + "-" + suffix + ".jpg";
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
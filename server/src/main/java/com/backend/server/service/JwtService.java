@@ -1,97 +1,182 @@
 package com.backend.server.service;
 
+import com.backend.server.entity.User;
+import com.backend.server.security.JwtKeyRing;
+import com.backend.server.security.VerifiedToken;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
-import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.UUID;
 
 @Service
+@RequiredArgsConstructor
 public class JwtService {
 
-    @Value("${jwt.secret}")
-    private String secret;
+    private static final ThreadLocal<MessageDigest> TOKEN_DIGEST = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    });
+
+    private static final String CLAIM_USER_ID = "uid";
+    private static final String CLAIM_ROLES = "roles";
+    private static final List<String> DEFAULT_ROLES = List.of("ROLE_USER");
+
+    private final JwtKeyRing keyRing;
 
     @Value("${jwt.expiration}")
     private Long expiration;
 
-    public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+    @Value("${jwt.cache.max-size:10000}")
+    private long cacheMaxSize;
+
+    private JwtParser parser;
+    private Cache<TokenDigest, VerifiedToken> verifiedTokens;
+
+    @PostConstruct
+    void init() {
+        parser = Jwts.parser()
+                .keyLocator(keyRing)
+                .build();
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new TokenExpiry())
+                .build();
     }
 
-    public Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    /** Repeat tokens are answered from a cache keyed by their SHA-256. */
+    public VerifiedToken verify(String token) {
+        TokenDigest key = TokenDigest.of(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(key);
+        if (cached != null) {
+            if (!keyRing.contains(cached.kid())) {
+                verifiedTokens.invalidate(key);
+                throw new JwtException("Signing key retired: " + cached.kid());
+            }
+            if (cached.isExpired(Instant.now())) {
+                verifiedTokens.invalidate(key);
+                throw new JwtException("JWT expired at " + cached.expiresAt());
+            }
+            return cached;
+        }
+        VerifiedToken verified = parse(token);
+        verifiedTokens.put(key, verified);
+        return verified;
     }
 
-    public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+    public String extractUsername(String token) {
+        return verify(token).subject();
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    public Date extractExpiration(String token) {
+        return Date.from(verify(token).expiresAt());
     }
 
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    private VerifiedToken parse(String token) {
+        Jws<Claims> jws = parser.parseSignedClaims(token);
+        Claims claims = jws.getPayload();
+        String kid = jws.getHeader().getKeyId();
+        Number userId = claims.get(CLAIM_USER_ID, Number.class);
+        List<?> roles = claims.get(CLAIM_ROLES, List.class);
+        return new VerifiedToken(
+                kid != null ? kid : keyRing.legacyKid(),
+                claims.getId(),
+                claims.getSubject(),
+                userId != null ? userId.longValue() : null,
+                roles != null ? roles.stream().map(String::valueOf).toList() : DEFAULT_ROLES,
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null
+        );
     }
 
-    public String generateToken(UserDetails userDetails) {
+    public String generateToken(User user) {
         Map<String, Object> claims = new HashMap<>();
-        return createToken(claims, userDetails.getUsername());
+        claims.put(CLAIM_USER_ID, user.getId());
+        claims.put(CLAIM_ROLES, user.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList());
+        return createToken(claims, user.getUsername());
     }
 
     private String createToken(Map<String, Object> claims, String subject) {
+        JwtKeyRing.KeyEntry signingKey = keyRing.active();
         return Jwts.builder()
+                .header().keyId(signingKey.kid()).and()
                 .claims(claims)
+                .id(UUID.randomUUID().toString())
                 .subject(subject)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey())
+                .signWith(signingKey.signingKey(), signingKey.jwsAlgorithm())
                 .compact();
     }
 
-    public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+    public long getAccessTokenTtlSeconds() {
+        return expiration / 1000;
     }
 
-    private SecretKey getSigningKey() {
+    public Boolean validateToken(String token, UserDetails userDetails) {
         try {
-            // Hash the secret using SHA-256 to ensure it's always 256 bits (32 bytes)
-            // This makes the key secure regardless of the input secret length
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] keyBytes = digest.digest(secret.getBytes(StandardCharsets.UTF_8));
-            return Keys.hmacShaKeyFor(keyBytes);
-        } catch (NoSuchAlgorithmException e) {
-            // Fallback: if SHA-256 is not available, use the secret directly
-            // but ensure it's at least 32 bytes by padding or repeating
-            byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
-            if (keyBytes.length < 32) {
-                // Pad to 32 bytes if needed
-                byte[] paddedKey = new byte[32];
-                System.arraycopy(keyBytes, 0, paddedKey, 0, keyBytes.length);
-                // Repeat the secret to fill remaining bytes
-                for (int i = keyBytes.length; i < 32; i++) {
-                    paddedKey[i] = keyBytes[i % keyBytes.length];
-                }
-                keyBytes = paddedKey;
+            VerifiedToken verified = verify(token);
+            return verified.subject() != null && verified.subject().equals(userDetails.getUsername());
+        } catch (JwtException e) {
+            return false;
+        }
+    }
+
+    /** SHA-256 of a token; the cache never retains the bearer token itself. */
+    private record TokenDigest(long a, long b, long c, long d) {
+
+        static TokenDigest of(String token) {
+            MessageDigest digest = TOKEN_DIGEST.get();
+            ByteBuffer hash = ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+            return new TokenDigest(hash.getLong(), hash.getLong(), hash.getLong(), hash.getLong());
+        }
+    }
+
+    private static final class TokenExpiry implements Expiry<TokenDigest, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(TokenDigest key, VerifiedToken value, long currentTime) {
+            if (value.expiresAt() == null) {
+                return Long.MAX_VALUE;
             }
-            return Keys.hmacShaKeyFor(keyBytes);
+            long remaining = Duration.between(Instant.now(), value.expiresAt()).toNanos();
+            return Math.max(remaining, 0L);
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenDigest key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(TokenDigest key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
         }
     }
 }
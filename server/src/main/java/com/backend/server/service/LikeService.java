@@ -14,15 +14,13 @@ public class LikeService {
 
     private final SpaceLikeRepository spaceLikeRepository;
     private final ParkingSpaceRepository parkingSpaceRepository;
-    private final UserService userService;
 
     @Transactional(readOnly = true)
-    public LikeResponse getLikeInfo(Long spaceId, String username) {
+    public LikeResponse getLikeInfo(Long spaceId, Long userId) {
         if (!parkingSpaceRepository.existsById(spaceId)) {
             throw new IllegalArgumentException("Space not found: " + spaceId);
         }
         long count = spaceLikeRepository.countBySpaceId(spaceId);
-        Long userId = userService.getUserIdByUsername(username);
         boolean likedByMe = spaceLikeRepository.findBySpaceIdAndUserId(spaceId, userId).isPresent();
         return LikeResponse.builder()
                 .likeCount(count)
@@ -31,28 +29,26 @@ public class LikeService {
     }
 
     @Transactional
-    public LikeResponse like(Long spaceId, String username) {
+    public LikeResponse like(Long spaceId, Long userId) {
         if (!parkingSpaceRepository.existsById(spaceId)) {
             throw new IllegalArgumentException("Space not found: " + spaceId);
         }
-        Long userId = userService.getUserIdByUsername(username);
         if (spaceLikeRepository.findBySpaceIdAndUserId(spaceId, userId).isPresent()) {
-            return getLikeInfo(spaceId, username);
+            return getLikeInfo(spaceId, userId);
         }
         spaceLikeRepository.save(SpaceLike.builder()
                 .spaceId(spaceId)
                 .userId(userId)
                 .build());
-        return getLikeInfo(spaceId, username);
+        return getLikeInfo(spaceId, userId);
     }
 
     @Transactional
-    public LikeResponse unlike(Long spaceId, String username) {
+    public LikeResponse unlike(Long spaceId, Long userId) {
         if (!parkingSpaceRepository.existsById(spaceId)) {
             throw new IllegalArgumentException("Space not found: " + spaceId);
         }
-        Long userId = userService.getUserIdByUsername(username);
         spaceLikeRepository.deleteBySpaceIdAndUserId(spaceId, userId);
-        return getLikeInfo(spaceId, username);
+        return getLikeInfo(spaceId, userId);
     }
 }
@@ -1,112 +1,228 @@
 package com.backend.server.service;
 
 import com.backend.server.dto.CreateSpaceRequest;
-import com.backend.server.dto.ImageUploadResponse;
+import com.backend.server.dto.SpaceAddress;
+import com.backend.server.dto.SpaceImage;
+import com.backend.server.dto.SpaceListItem;
+import com.backend.server.dto.SpacePage;
 import com.backend.server.dto.SpaceResponse;
+import com.backend.server.dto.SpaceSearchRequest;
+import com.backend.server.dto.Versioned;
 import com.backend.server.entity.ParkingSpace;
+import com.backend.server.entity.VehicleType;
 import com.backend.server.repository.ParkingSpaceRepository;
-import com.cloudinary.Cloudinary;
-import com.cloudinary.utils.ObjectUtils;
+import com.backend.server.repository.ParkingSpaceSpecifications;
+import com.backend.server.util.GeoCellIndex;
+import com.backend.server.util.SpaceCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.io.File;
-import java.io.FileOutputStream;
-import java.io.IOException;
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
 public class ParkingSpaceService {
 
     private final ParkingSpaceRepository parkingSpaceRepository;
-    private final Cloudinary cloudinary;
-    private final UserService userService;
-
-    public ImageUploadResponse uploadImage(MultipartFile file) throws IOException {
-        if (file == null || file.isEmpty()) {
-            throw new IllegalArgumentException("Image file is required");
-        }
-        File tempFile = File.createTempFile("upload_", "_" + (file.getOriginalFilename() != null ? file.getOriginalFilename() : "image"));
-        try (FileOutputStream out = new FileOutputStream(tempFile)) {
-            out.write(file.getBytes());
-        }
-        try {
-            @SuppressWarnings("unchecked")
-            Map<String, Object> result = cloudinary.uploader().upload(tempFile, ObjectUtils.emptyMap());
-            String url = (String) result.get("secure_url");
-            if (url == null) {
-                url = (String) result.get("url");
-            }
-            return new ImageUploadResponse(url);
-        } finally {
-            tempFile.delete();
-        }
-    }
+    private final SpaceImageService spaceImageService;
+    private final TransactionTemplate transactionTemplate;
+    private final SpaceGeoIndex spaceGeoIndex;
+    private final SpaceAddressIndex spaceAddressIndex;
+
+    @Value("${spaces.page.default-size:20}")
+    private int defaultPageSize;
+
+    @Value("${spaces.page.max-size:100}")
+    private int maxPageSize;
 
-    public SpaceResponse createSpace(String ownerUsername, CreateSpaceRequest request) {
+    @Value("${spaces.nearby.default-radius-m:2000}")
+    private double defaultNearbyRadius;
+
+    @Value("${spaces.nearby.max-radius-m:20000}")
+    private double maxNearbyRadius;
+
+    @Value("${spaces.autocomplete.max-results:10}")
+    private int maxSuggestions;
+
+    public SpaceResponse createSpace(Long ownerId, CreateSpaceRequest request) {
         validateAtLeastOneRentOption(request.getRentPerHour(), request.getRentPerDay(), request.getRentMonthly());
+        validateLocation(request.getLatitude(), request.getLongitude());
+        int vehicleTypeMask = VehicleType.parseMask(request.getVehicleTypes());
 
-        String imageUrlsStr = request.getImageUrls() != null && !request.getImageUrls().isEmpty()
-                ? String.join(",", request.getImageUrls())
-                : null;
+        List<String> imageUrls = imageUrls(request);
         ParkingSpace space = ParkingSpace.builder()
-                .ownerId(userService.getUserIdByUsername(ownerUsername))
+                .ownerId(ownerId)
                 .address(request.getAddress())
                 .squareFeet(request.getSquareFeet())
-                .vehicleTypes(request.getVehicleTypes())
+                .vehicleTypes(VehicleType.describe(vehicleTypeMask))
+                .vehicleTypeMask(vehicleTypeMask)
                 .rentPerHour(request.getRentPerHour())
                 .rentPerDay(request.getRentPerDay())
                 .rentMonthly(request.getRentMonthly())
-                .imageUrls(imageUrlsStr)
+                .latitude(request.getLatitude())
+                .longitude(request.getLongitude())
                 .build();
 
-        space = parkingSpaceRepository.save(space);
-        return toResponse(space);
+        List<SpaceImage> images = new ArrayList<>();
+        ParkingSpace saved = transactionTemplate.execute(status -> {
+            ParkingSpace created = parkingSpaceRepository.save(space);
+            images.addAll(spaceImageService.replaceImages(created.getId(), imageUrls));
+            return created;
+        });
+        spaceGeoIndex.update(saved.getId(), saved.getLatitude(), saved.getLongitude(), saved.getVehicleTypeMask());
+        spaceAddressIndex.update(saved.getId(), saved.getAddress());
+        return toResponse(saved, images);
     }
 
-    public List<SpaceResponse> listAllSpaces() {
-        return parkingSpaceRepository.findAll().stream()
-                .map(this::toResponse)
-                .toList();
+    public Versioned<SpacePage> listSpaces(String cursor, Integer limit) {
+        int pageSize = pageSize(limit);
+        // Fetch one extra row to learn whether another page exists
+        Limit fetch = Limit.of(pageSize + 1);
+        List<SpaceListItem> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = parkingSpaceRepository.findNewest(fetch);
+        } else {
+            SpaceCursor after = SpaceCursor.decode(cursor);
+            rows = parkingSpaceRepository.findOlderThan(after.createdAt(), after.id(), fetch);
+        }
+        return toPage(rows, pageSize);
     }
 
-    public List<SpaceResponse> listMySpaces(String ownerUsername) {
-        Long ownerId = userService.getUserIdByUsername(ownerUsername);
-        return parkingSpaceRepository.findByOwnerIdOrderByCreatedAtDesc(ownerId).stream()
-                .map(this::toResponse)
-                .toList();
+    /** Validated by ETag only. */
+    public Versioned<SpacePage> search(SpaceSearchRequest request) {
+        validateRange("rentPerHour", request.getMinRentPerHour(), request.getMaxRentPerHour());
+        validateRange("rentPerDay", request.getMinRentPerDay(), request.getMaxRentPerDay());
+        validateRange("rentMonthly", request.getMinRentMonthly(), request.getMaxRentMonthly());
+        validateRange("squareFeet", request.getMinSquareFeet(), request.getMaxSquareFeet());
+        int pageSize = pageSize(request.getLimit());
+        String cursor = request.getCursor();
+        Specification<ParkingSpace> spec = Specification.allOf(
+                ParkingSpaceSpecifications.between("rentPerHour", request.getMinRentPerHour(), request.getMaxRentPerHour()),
+                ParkingSpaceSpecifications.between("rentPerDay", request.getMinRentPerDay(), request.getMaxRentPerDay()),
+                ParkingSpaceSpecifications.between("rentMonthly", request.getMinRentMonthly(), request.getMaxRentMonthly()),
+                ParkingSpaceSpecifications.between("squareFeet", request.getMinSquareFeet(), request.getMaxSquareFeet()),
+                ParkingSpaceSpecifications.acceptsVehicleTypes(vehicleTypeFilter(request.getVehicleType())),
+                ParkingSpaceSpecifications.olderThan(cursor == null || cursor.isBlank() ? null : SpaceCursor.decode(cursor))
+        );
+        Versioned<SpacePage> page = toPage(parkingSpaceRepository.findListItems(spec, Limit.of(pageSize + 1)), pageSize);
+        // No Last-Modified: an update can move a row out of the filter, leaving the page's newest time unchanged
+        return new Versioned<>(page.etag(), null, page.content());
     }
 
-    public SpaceResponse getById(Long id) {
-        return parkingSpaceRepository.findById(id)
-                .map(this::toResponse)
-                .orElseThrow(() -> new IllegalArgumentException("Space not found: " + id));
+    /** The validators cover the lookahead row, so a page whose next cursor changes gets a new ETag. */
+    private Versioned<SpacePage> toPage(List<SpaceListItem> rows, int pageSize) {
+        boolean hasMore = rows.size() > pageSize;
+        List<SpaceListItem> page = hasMore ? rows.subList(0, pageSize) : rows;
+        SpaceListItem last = hasMore ? page.get(page.size() - 1) : null;
+        String nextCursor = last != null ? new SpaceCursor(last.createdAt(), last.id()).encode() : null;
+        return versioned(rows, () -> new SpacePage(toResponses(page), nextCursor));
     }
 
-    public SpaceResponse updateSpace(Long id, String ownerUsername, CreateSpaceRequest request) {
-        validateAtLeastOneRentOption(request.getRentPerHour(), request.getRentPerDay(), request.getRentMonthly());
+    public List<SpaceResponse> findNearby(double latitude, double longitude, Double radiusM, String vehicleType,
+                                          Integer limit) {
+        validateLocation(latitude, longitude);
+        int vehicleTypeMask = vehicleTypeFilter(vehicleType);
+        double radius = radiusM != null ? radiusM : defaultNearbyRadius;
+        if (!(radius > 0) || radius > maxNearbyRadius) {
+            throw new IllegalArgumentException("radiusM must be between 0 and " + (long) maxNearbyRadius);
+        }
+        List<GeoCellIndex.Hit> hits = spaceGeoIndex.nearest(latitude, longitude, radius, vehicleTypeMask,
+                pageSize(limit));
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, SpaceListItem> items = new HashMap<>();
+        for (SpaceListItem item : parkingSpaceRepository.findListItemsByIdIn(hits.stream().map(GeoCellIndex.Hit::id).toList())) {
+            items.put(item.id(), item);
+        }
+        List<SpaceListItem> found = new ArrayList<>(hits.size());
+        List<Double> distances = new ArrayList<>(hits.size());
+        for (GeoCellIndex.Hit hit : hits) {
+            SpaceListItem item = items.get(hit.id());
+            if (item != null) {
+                found.add(item);
+                distances.add(Math.round(hit.distanceMeters() * 10) / 10.0);
+            }
+        }
+        List<SpaceResponse> responses = toResponses(found);
+        for (int i = 0; i < responses.size(); i++) {
+            responses.get(i).setDistanceMeters(distances.get(i));
+        }
+        return responses;
+    }
+
+    public List<SpaceAddress> suggestAddresses(String query, Integer limit) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        int max = limit == null || limit <= 0 ? maxSuggestions : Math.min(limit, maxSuggestions);
+        return spaceAddressIndex.suggest(query, max);
+    }
+
+    public Versioned<List<SpaceResponse>> listMySpaces(Long ownerId) {
+        List<SpaceListItem> rows = parkingSpaceRepository.findListItemsByOwnerId(ownerId);
+        return versioned(rows, () -> toResponses(rows));
+    }
+
+    public Versioned<SpaceResponse> getById(Long id) {
         ParkingSpace space = parkingSpaceRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Space not found: " + id));
-        Long ownerId = userService.getUserIdByUsername(ownerUsername);
-        if (!space.getOwnerId().equals(ownerId)) {
-            throw new IllegalArgumentException("Not allowed to update this space");
-        }
-        String imageUrlsStr = request.getImageUrls() != null && !request.getImageUrls().isEmpty()
-                ? String.join(",", request.getImageUrls())
-                : null;
-        space.setAddress(request.getAddress());
-        space.setSquareFeet(request.getSquareFeet());
-        space.setVehicleTypes(request.getVehicleTypes());
-        space.setRentPerHour(request.getRentPerHour());
-        space.setRentPerDay(request.getRentPerDay());
-        space.setRentMonthly(request.getRentMonthly());
-        space.setImageUrls(imageUrlsStr);
-        space = parkingSpaceRepository.save(space);
-        return toResponse(space);
+        String etag = "W/\"" + space.getId() + "-" + space.getVersion() + "\"";
+        LocalDateTime lastModified = space.getUpdatedAt() != null ? space.getUpdatedAt() : space.getCreatedAt();
+        return new Versioned<>(etag, toInstant(lastModified),
+                () -> toResponse(space, spaceImageService.findImages(id)));
+    }
+
+    public SpaceResponse updateSpace(Long id, Long ownerId, CreateSpaceRequest request) {
+        validateAtLeastOneRentOption(request.getRentPerHour(), request.getRentPerDay(), request.getRentMonthly());
+        validateLocation(request.getLatitude(), request.getLongitude());
+        int vehicleTypeMask = VehicleType.parseMask(request.getVehicleTypes());
+        List<String> imageUrls = imageUrls(request);
+        List<SpaceImage> images = new ArrayList<>();
+        ParkingSpace space = transactionTemplate.execute(status -> {
+            ParkingSpace existing = parkingSpaceRepository.findById(id)
+                    .orElseThrow(() -> new IllegalArgumentException("Space not found: " + id));
+            if (!existing.getOwnerId().equals(ownerId)) {
+                throw new IllegalArgumentException("Not allowed to update this space");
+            }
+            existing.setAddress(request.getAddress());
+            existing.setSquareFeet(request.getSquareFeet());
+            existing.setVehicleTypes(VehicleType.describe(vehicleTypeMask));
+            existing.setVehicleTypeMask(vehicleTypeMask);
+            existing.setRentPerHour(request.getRentPerHour());
+            existing.setRentPerDay(request.getRentPerDay());
+            existing.setRentMonthly(request.getRentMonthly());
+            existing.setLatitude(request.getLatitude());
+            existing.setLongitude(request.getLongitude());
+            // Images live in space_images, so an image-only edit would not otherwise bump the version
+            existing.setUpdatedAt(LocalDateTime.now());
+            // The new images supersede any not yet backfilled from the old column; a later backfill must not add them
+            existing.setLegacyImageUrls(null);
+            images.addAll(spaceImageService.replaceImages(id, imageUrls));
+            return existing;
+        });
+        spaceGeoIndex.update(space.getId(), space.getLatitude(), space.getLongitude(), space.getVehicleTypeMask());
+        spaceAddressIndex.update(space.getId(), space.getAddress());
+        return toResponse(space, images);
+    }
+
+    private int pageSize(Integer requested) {
+        if (requested == null || requested <= 0) {
+            return defaultPageSize;
+        }
+        return Math.min(requested, maxPageSize);
     }
 
     private void validateAtLeastOneRentOption(BigDecimal perHour, BigDecimal perDay, BigDecimal monthly) {
@@ -118,10 +234,84 @@ public class ParkingSpaceService {
         }
     }
 
-    private SpaceResponse toResponse(ParkingSpace space) {
-        List<String> imageUrlsList = space.getImageUrls() != null && !space.getImageUrls().isEmpty()
-                ? List.of(space.getImageUrls().split(","))
-                : List.of();
+    private int vehicleTypeFilter(String vehicleType) {
+        return vehicleType == null || vehicleType.isBlank() ? 0 : VehicleType.parseMask(vehicleType);
+    }
+
+    private <V extends Comparable<? super V>> void validateRange(String field, V min, V max) {
+        if (min != null && max != null && min.compareTo(max) > 0) {
+            throw new IllegalArgumentException("Minimum " + field + " must not exceed maximum");
+        }
+    }
+
+    private void validateLocation(Double latitude, Double longitude) {
+        if ((latitude == null) != (longitude == null)) {
+            throw new IllegalArgumentException("Latitude and longitude must be given together");
+        }
+        if (latitude != null && (!(latitude >= -90 && latitude <= 90) || !(longitude >= -180 && longitude <= 180))) {
+            throw new IllegalArgumentException("Coordinates out of range");
+        }
+    }
+
+    private static <T> Versioned<T> versioned(List<SpaceListItem> rows, Supplier<T> body) {
+        long hash = rows.size();
+        LocalDateTime lastModified = null;
+        for (SpaceListItem row : rows) {
+            hash = mix(hash + row.id());
+            hash = mix(hash + row.version());
+            if (lastModified == null || row.lastModified().isAfter(lastModified)) {
+                lastModified = row.lastModified();
+            }
+        }
+        return new Versioned<>("W/\"" + Long.toHexString(hash) + "\"", toInstant(lastModified), body);
+    }
+
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    /** Timestamps are written with {@link LocalDateTime#now()}, so they are in the server's zone. */
+    private static Instant toInstant(LocalDateTime time) {
+        return time != null ? time.atZone(ZoneId.systemDefault()).toInstant() : null;
+    }
+
+    private List<SpaceResponse> toResponses(List<SpaceListItem> items) {
+        List<Long> ids = new ArrayList<>(items.size());
+        for (SpaceListItem item : items) {
+            ids.add(item.id());
+        }
+        Map<Long, List<SpaceImage>> images = spaceImageService.findImages(ids);
+        List<SpaceResponse> responses = new ArrayList<>(items.size());
+        for (SpaceListItem item : items) {
+            responses.add(toResponse(item, images.getOrDefault(item.id(), List.of())));
+        }
+        return responses;
+    }
+
+    private SpaceResponse toResponse(SpaceListItem item, List<SpaceImage> images) {
+        return SpaceResponse.builder()
+                .id(item.id())
+                .ownerId(item.ownerId())
+                .address(item.address())
+                .squareFeet(item.squareFeet())
+                .vehicleTypes(item.vehicleTypes())
+                .rentPerHour(item.rentPerHour())
+                .rentPerDay(item.rentPerDay())
+                .rentMonthly(item.rentMonthly())
+                .imageUrls(imageUrls(images))
+                .images(images)
+                .latitude(item.latitude())
+                .longitude(item.longitude())
+                .createdAt(item.createdAt())
+                .build();
+    }
+
+    private SpaceResponse toResponse(ParkingSpace space, List<SpaceImage> images) {
         return SpaceResponse.builder()
                 .id(space.getId())
                 .ownerId(space.getOwnerId())
@@ -131,8 +321,29 @@ public class ParkingSpaceService {
                 .rentPerHour(space.getRentPerHour())
                 .rentPerDay(space.getRentPerDay())
                 .rentMonthly(space.getRentMonthly())
-                .imageUrls(imageUrlsList)
+                .imageUrls(imageUrls(images))
+                .images(images)
+                .latitude(space.getLatitude())
+                .longitude(space.getLongitude())
                 .createdAt(space.getCreatedAt())
                 .build();
     }
+
+    private static List<String> imageUrls(List<SpaceImage> images) {
+        List<String> urls = new ArrayList<>(images.size());
+        for (SpaceImage image : images) {
+            urls.add(image.url());
+        }
+        return urls;
+    }
+
+    private static List<String> imageUrls(CreateSpaceRequest request) {
+        if (request.getImageUrls() == null) {
+            return List.of();
+        }
+        return request.getImageUrls().stream()
+                .filter(url -> url != null && !url.isBlank())
+                .map(String::trim)
+                .toList();
+    }
 }
@@ -0,0 +1,59 @@
+package com.backend.server.service;
+
+import com.backend.server.dto.SpaceAddress;
+import com.backend.server.repository.ParkingSpaceRepository;
+import com.backend.server.util.PrefixSearchIndex;
+import com.backend.server.util.RebuildableIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/** In-memory address search, loaded at startup and kept current by {@link ParkingSpaceService}. */
+@Service
+public class SpaceAddressIndex {
+
+    private final ParkingSpaceRepository parkingSpaceRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final RebuildableIndex<PrefixSearchIndex, SpaceAddress> index = new RebuildableIndex<>(
+            new PrefixSearchIndex(), (target, address) -> target.put(address.id(), address.address()));
+
+    public SpaceAddressIndex(ParkingSpaceRepository parkingSpaceRepository, PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry) {
+        this.parkingSpaceRepository = parkingSpaceRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        Gauge.builder("spaces.address-index.size", this, addressIndex -> addressIndex.index.get().size())
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        index.rebuild(() -> {
+            PrefixSearchIndex.Builder builder = PrefixSearchIndex.builder();
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<SpaceAddress> addresses = parkingSpaceRepository.streamAllAddresses()) {
+                    addresses.forEach(address -> builder.add(address.id(), address.address()));
+                }
+            });
+            return builder.build();
+        });
+    }
+
+    public void update(Long spaceId, String address) {
+        index.update(new SpaceAddress(spaceId, address));
+    }
+
+    public List<SpaceAddress> suggest(String query, int limit) {
+        return index.get().search(query, limit).stream()
+                .map(match -> new SpaceAddress(match.id(), match.text()))
+                .toList();
+    }
+}
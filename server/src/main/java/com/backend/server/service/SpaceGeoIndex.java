@@ -0,0 +1,68 @@
+package com.backend.server.service;
+
+import com.backend.server.dto.SpaceLocation;
+import com.backend.server.repository.ParkingSpaceRepository;
+import com.backend.server.util.GeoCellIndex;
+import com.backend.server.util.RebuildableIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/** In-memory geo index, loaded at startup and kept current by {@link ParkingSpaceService}. */
+@Service
+public class SpaceGeoIndex {
+
+    private final ParkingSpaceRepository parkingSpaceRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final RebuildableIndex<GeoCellIndex, SpaceLocation> index =
+            new RebuildableIndex<>(new GeoCellIndex(), SpaceGeoIndex::apply);
+
+    public SpaceGeoIndex(ParkingSpaceRepository parkingSpaceRepository, PlatformTransactionManager transactionManager,
+                         MeterRegistry meterRegistry) {
+        this.parkingSpaceRepository = parkingSpaceRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        Gauge.builder("spaces.geo-index.size", this, geoIndex -> geoIndex.index.get().size())
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        index.rebuild(() -> {
+            GeoCellIndex.Builder builder = GeoCellIndex.builder();
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<SpaceLocation> locations = parkingSpaceRepository.streamAllLocations()) {
+                    locations.forEach(location -> builder.add(location.id(), location.latitude(), location.longitude(),
+                            location.vehicleTypeMask()));
+                }
+            });
+            return builder.build();
+        });
+    }
+
+    /** Indexes, moves or (when either coordinate is null) drops a space. */
+    public void update(Long spaceId, Double latitude, Double longitude, int vehicleTypeMask) {
+        index.update(new SpaceLocation(spaceId, latitude, longitude, vehicleTypeMask));
+    }
+
+    /** {@code vehicleTypeMask} lists the vehicle type bits a space must accept; 0 means any. */
+    public List<GeoCellIndex.Hit> nearest(double latitude, double longitude, double radiusMeters, int vehicleTypeMask, int limit) {
+        return index.get().nearest(latitude, longitude, radiusMeters, vehicleTypeMask, limit);
+    }
+
+    private static void apply(GeoCellIndex target, SpaceLocation location) {
+        if (location.latitude() == null || location.longitude() == null) {
+            target.remove(location.id());
+        } else {
+            target.put(location.id(), location.latitude(), location.longitude(), location.vehicleTypeMask());
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.backend.server.service;
+
+import com.backend.server.entity.ParkingSpace;
+import com.backend.server.repository.ParkingSpaceImageRepository;
+import com.backend.server.repository.ParkingSpaceRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/** Moves legacy {@code image_url} values into space_images rows and clears the column. */
+@Service
+public class SpaceImageBackfill extends BatchedBackfill {
+
+    private final ParkingSpaceRepository parkingSpaceRepository;
+    private final ParkingSpaceImageRepository parkingSpaceImageRepository;
+    private final SpaceImageService spaceImageService;
+
+    public SpaceImageBackfill(ParkingSpaceRepository parkingSpaceRepository,
+                              ParkingSpaceImageRepository parkingSpaceImageRepository,
+                              SpaceImageService spaceImageService, PlatformTransactionManager transactionManager) {
+        super(transactionManager);
+        this.parkingSpaceRepository = parkingSpaceRepository;
+        this.parkingSpaceImageRepository = parkingSpaceImageRepository;
+        this.spaceImageService = spaceImageService;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void backfill() {
+        runBatches();
+    }
+
+    @Override
+    Long migrateBatch(long afterId) {
+        List<ParkingSpace> batch = parkingSpaceRepository
+                .findTop500ByLegacyImageUrlsIsNotNullAndIdGreaterThanOrderByIdAsc(afterId);
+        if (batch.isEmpty()) {
+            return null;
+        }
+        Set<Long> migrated = parkingSpaceImageRepository.findSpaceIdsWithImages(
+                batch.stream().map(ParkingSpace::getId).toList());
+        List<Long> spaceIds = new ArrayList<>(batch.size());
+        List<List<String>> urls = new ArrayList<>(batch.size());
+        for (ParkingSpace space : batch) {
+            String legacy = space.getLegacyImageUrls();
+            space.setLegacyImageUrls(null);
+            if (migrated.contains(space.getId())) {
+                continue;
+            }
+            spaceIds.add(space.getId());
+            urls.add(Arrays.stream(legacy.split(","))
+                    .map(String::trim)
+                    .filter(url -> !url.isEmpty())
+                    .toList());
+        }
+        spaceImageService.insertImages(spaceIds, urls);
+        return batch.get(batch.size() - 1).getId();
+    }
+}
@@ -0,0 +1,89 @@
+package com.backend.server.service;
+
+import com.backend.server.dto.SpaceImage;
+import com.backend.server.entity.ParkingSpaceImage;
+import com.backend.server.entity.StoredImage;
+import com.backend.server.repository.ParkingSpaceImageRepository;
+import com.backend.server.repository.StoredImageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/** Ordered images of spaces, copied from {@link StoredImage} on write. */
+@Service
+@RequiredArgsConstructor
+public class SpaceImageService {
+
+    private final ParkingSpaceImageRepository parkingSpaceImageRepository;
+    private final StoredImageRepository storedImageRepository;
+
+    /** Replaces the images of one space; must run inside the caller's transaction. */
+    public List<SpaceImage> replaceImages(Long spaceId, List<String> urls) {
+        parkingSpaceImageRepository.deleteBySpaceId(spaceId);
+        List<ParkingSpaceImage> rows = insertImages(List.of(spaceId), List.of(urls));
+        return rows.stream().map(SpaceImageService::toImage).toList();
+    }
+
+    List<ParkingSpaceImage> insertImages(List<Long> spaceIds, List<List<String>> urls) {
+        Set<String> distinct = new HashSet<>();
+        urls.forEach(distinct::addAll);
+        if (distinct.isEmpty()) {
+            return List.of();
+        }
+        Map<String, StoredImage> stored = new HashMap<>();
+        for (StoredImage image : storedImageRepository.findByUrlIn(distinct)) {
+            stored.put(image.getUrl(), image);
+        }
+        List<ParkingSpaceImage> rows = new ArrayList<>();
+        for (int i = 0; i < spaceIds.size(); i++) {
+            List<String> spaceUrls = urls.get(i);
+            for (int position = 0; position < spaceUrls.size(); position++) {
+                String url = spaceUrls.get(position);
+                StoredImage image = stored.get(url);
+                rows.add(ParkingSpaceImage.builder()
+                        .spaceId(spaceIds.get(i))
+                        .position(position)
+                        .url(url)
+                        .thumbnailUrl(image != null ? image.getThumbnailUrl() : null)
+                        .mediumUrl(image != null ? image.getMediumUrl() : null)
+                        .contentHash(image != null ? image.getContentHash() : null)
+                        .width(image != null ? image.getWidth() : null)
+                        .height(image != null ? image.getHeight() : null)
+                        .build());
+            }
+        }
+        return parkingSpaceImageRepository.saveAll(rows);
+    }
+
+    /** Images of each given space in display order; spaces without images are absent from the map. */
+    public Map<Long, List<SpaceImage>> findImages(Collection<Long> spaceIds) {
+        if (spaceIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, List<SpaceImage>> images = new HashMap<>();
+        for (ParkingSpaceImage row : parkingSpaceImageRepository.findBySpaceIdInOrderBySpaceIdAscPositionAsc(spaceIds)) {
+            images.computeIfAbsent(row.getSpaceId(), id -> new ArrayList<>()).add(toImage(row));
+        }
+        return images;
+    }
+
+    public List<SpaceImage> findImages(Long spaceId) {
+        return parkingSpaceImageRepository.findBySpaceIdOrderByPositionAsc(spaceId).stream()
+                .map(SpaceImageService::toImage)
+                .toList();
+    }
+
+    /** Images without generated variants fall back to the original for every size. */
+    private static SpaceImage toImage(ParkingSpaceImage row) {
+        return new SpaceImage(row.getUrl(),
+                row.getThumbnailUrl() != null ? row.getThumbnailUrl() : row.getUrl(),
+                row.getMediumUrl() != null ? row.getMediumUrl() : row.getUrl());
+    }
+}
@@ -0,0 +1,103 @@
+package com.backend.server.service;
+
+import com.backend.server.repository.UserRepository;
+import com.backend.server.util.BloomFilter;
+import com.backend.server.util.RebuildableIndex;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/** Advisory availability checks; Bloom filters answer "free" without a query. */
+@Service
+public class UserAvailabilityService {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Counter filterAnswers;
+    private final Counter databaseAnswers;
+
+    @Value("${users.availability.expected-users:100000}")
+    private long expectedUsers;
+
+    @Value("${users.availability.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    /** Null until the first rebuild; every check falls back to the database until then. */
+    private final RebuildableIndex<Filters, Registration> filters = new RebuildableIndex<>(null, (target, user) -> {
+        target.usernames().add(user.username());
+        target.emails().add(user.email());
+    });
+
+    public UserAvailabilityService(UserRepository userRepository, PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.filterAnswers = Counter.builder("users.availability.checks").tag("answered-by", "bloom-filter")
+                .register(meterRegistry);
+        this.databaseAnswers = Counter.builder("users.availability.checks").tag("answered-by", "database")
+                .register(meterRegistry);
+    }
+
+    public boolean isUsernameAvailable(String username) {
+        Filters current = filters.get();
+        return isAvailable(current != null ? current.usernames() : null, username, userRepository::existsByUsername);
+    }
+
+    public boolean isEmailAvailable(String email) {
+        Filters current = filters.get();
+        return isAvailable(current != null ? current.emails() : null, email, userRepository::existsByEmail);
+    }
+
+    public void onUserRegistered(String username, String email) {
+        filters.update(new Registration(username, email));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        filters.rebuild(() -> readOnlyTransaction.execute(status -> new Filters(
+                build(userRepository.streamAllUsernames()),
+                build(userRepository.streamAllEmails()))));
+    }
+
+    @Scheduled(fixedDelayString = "${users.availability.resize-check-interval-ms:600000}")
+    public void rebuildIfSaturated() {
+        Filters current = filters.get();
+        if (current != null && (current.usernames().isSaturated() || current.emails().isSaturated())) {
+            expectedUsers = Math.max(current.usernames().insertions(), current.emails().insertions()) * 2;
+            rebuild();
+        }
+    }
+
+    private BloomFilter build(Stream<String> values) {
+        BloomFilter filter = new BloomFilter(expectedUsers, falsePositiveRate);
+        try (values) {
+            values.forEach(filter::add);
+        }
+        return filter;
+    }
+
+    private boolean isAvailable(BloomFilter filter, String value, Predicate<String> existsInDatabase) {
+        if (filter != null && !filter.mightContain(value)) {
+            filterAnswers.increment();
+            return true;
+        }
+        databaseAnswers.increment();
+        return !existsInDatabase.test(value);
+    }
+
+    private record Filters(BloomFilter usernames, BloomFilter emails) {
+    }
+
+    private record Registration(String username, String email) {
+    }
+}
@@ -2,10 +2,16 @@ package com.backend.server.service;
 
 import com.backend.server.dto.RegisterRequest;
 import com.backend.server.entity.User;
-import com.backend.server.exception.ResourceAlreadyExistsException;
 import com.backend.server.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -14,10 +20,26 @@ import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-public class UserService implements UserDetailsService {
+public class UserService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final MeterRegistry meterRegistry;
+    private final UserAvailabilityService userAvailabilityService;
+
+    @Value("${users.id-cache.max-size:50000}")
+    private long userIdCacheMaxSize;
+
+    private Cache<String, Long> userIdsByUsername;
+
+    @PostConstruct
+    void initUserIdCache() {
+        userIdsByUsername = Caffeine.newBuilder()
+                .maximumSize(userIdCacheMaxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, userIdsByUsername, "users.id-by-username");
+    }
 
     @Override
     @Transactional(readOnly = true)
@@ -27,16 +49,17 @@ public class UserService implements UserDetailsService {
         return user;
     }
 
+    @Override
     @Transactional
-    public User registerUser(RegisterRequest request) {
-        if (userRepository.existsByUsername(request.getUsername())) {
-            throw new ResourceAlreadyExistsException("Username already exists: " + request.getUsername());
-        }
-
-        if (userRepository.existsByEmail(request.getEmail())) {
-            throw new ResourceAlreadyExistsException("Email already exists: " + request.getEmail());
-        }
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = findByUsername(userDetails.getUsername());
+        user.setPassword(newPassword);
+        return userRepository.save(user);
+    }
 
+    /** Duplicates are rejected by the unique constraints and reported as 409. */
+    @Transactional
+    public User registerUser(RegisterRequest request) {
         User user = User.builder()
                 .username(request.getUsername())
                 .email(request.getEmail())
@@ -46,7 +69,10 @@ public class UserService implements UserDetailsService {
                 .password(passwordEncoder.encode(request.getPassword()))
                 .build();
 
-        return userRepository.save(user);
+        user = userRepository.saveAndFlush(user);
+        onUserChanged(user.getUsername());
+        userAvailabilityService.onUserRegistered(user.getUsername(), user.getEmail());
+        return user;
     }
 
     @Transactional(readOnly = true)
@@ -56,7 +82,18 @@ public class UserService implements UserDetailsService {
     }
 
     @Transactional(readOnly = true)
+    public User findById(Long id) {
+        return userRepository.findById(id)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with id: " + id));
+    }
+
     public Long getUserIdByUsername(String username) {
-        return findByUsername(username).getId();
+        return userIdsByUsername.get(username, key -> userRepository.findIdByUsername(key)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + key)));
+    }
+
+    /** Call whenever a user is created, renamed or deleted. */
+    public void onUserChanged(String username) {
+        userIdsByUsername.invalidate(username);
     }
 }
@@ -0,0 +1,53 @@
+package com.backend.server.service;
+
+import com.backend.server.entity.ParkingSpace;
+import com.backend.server.entity.VehicleType;
+import com.backend.server.repository.ParkingSpaceRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+/** Derives {@code vehicle_type_mask} for spaces created before it existed. */
+@Service
+public class VehicleTypeBackfill extends BatchedBackfill {
+
+    private static final int UNMIGRATED = 0;
+
+    private final ParkingSpaceRepository parkingSpaceRepository;
+
+    public VehicleTypeBackfill(ParkingSpaceRepository parkingSpaceRepository, PlatformTransactionManager transactionManager) {
+        super(transactionManager);
+        this.parkingSpaceRepository = parkingSpaceRepository;
+    }
+
+    /** Runs before {@link SpaceGeoIndex#rebuild()} so the index loads the migrated masks. */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void backfill() {
+        runBatches();
+    }
+
+    @Override
+    Long migrateBatch(long afterId) {
+        List<ParkingSpace> batch = parkingSpaceRepository
+                .findTop500ByVehicleTypeMaskAndIdGreaterThanOrderByIdAsc(UNMIGRATED, afterId);
+        if (batch.isEmpty()) {
+            return null;
+        }
+        for (ParkingSpace space : batch) {
+            VehicleType.Parsed parsed = VehicleType.parse(space.getVehicleTypes());
+            if (parsed.mask() != 0) {
+                space.setVehicleTypeMask(parsed.mask());
+                if (parsed.unknown().isEmpty()) {
+                    space.setVehicleTypes(VehicleType.describe(parsed.mask()));
+                }
+            }
+        }
+        return batch.get(batch.size() - 1).getId();
+    }
+}
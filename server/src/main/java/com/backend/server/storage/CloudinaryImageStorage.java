@@ -0,0 +1,63 @@
+package com.backend.server.storage;
+
+import com.cloudinary.Cloudinary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/** Chunked uploads, so at most one chunk of an image is buffered. */
+@Component
+@ConditionalOnProperty(name = "storage.images.backend", havingValue = "cloudinary", matchIfMissing = true)
+@RequiredArgsConstructor
+public class CloudinaryImageStorage implements ImageStorage {
+
+    private static final Pattern VERSION = Pattern.compile("^v\\d+/");
+
+    private final Cloudinary cloudinary;
+
+    /** Cloudinary requires every chunk but the last to be at least 5 MB. */
+    @Value("${spaces.images.upload-chunk-bytes:5242880}")
+    private int uploadChunkBytes;
+
+    @Override
+    public String store(InputStream content, String filename, String contentType) throws IOException {
+        Map<String, Object> options = new HashMap<>();
+        options.put("resource_type", "image");
+        if (filename != null) {
+            options.put("filename", filename);
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, Object> result = cloudinary.uploader().uploadLarge(content, options, uploadChunkBytes);
+        String url = (String) result.get("secure_url");
+        if (url == null) {
+            url = (String) result.get("url");
+        }
+        return url;
+    }
+
+    @Override
+    public void delete(String url) throws IOException {
+        String publicId = publicId(url);
+        if (publicId != null) {
+            cloudinary.uploader().destroy(publicId, Map.of("resource_type", "image"));
+        }
+    }
+
+    /** Public id from a delivery URL such as {@code .../image/upload/v1712345678/folder/name.jpg}. */
+    private static String publicId(String url) {
+        int upload = url == null ? -1 : url.indexOf("/upload/");
+        if (upload < 0) {
+            return null;
+        }
+        String path = VERSION.matcher(url.substring(upload + "/upload/".length())).replaceFirst("");
+        int dot = path.lastIndexOf('.');
+        return dot > path.lastIndexOf('/') ? path.substring(0, dot) : path;
+    }
+}
@@ -0,0 +1,14 @@
+package com.backend.server.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/** Chosen with {@code storage.images.backend}: {@code cloudinary} or {@code local}. */
+public interface ImageStorage {
+
+    /** Reads {@code content} to the end without closing it; returns the public URL. */
+    String store(InputStream content, String filename, String contentType) throws IOException;
+
+    /** Removes an image this storage returned from {@link #store}; unknown URLs are ignored. */
+    void delete(String url) throws IOException;
+}
@@ -0,0 +1,110 @@
+package com.backend.server.storage;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/** Stores files under random, never-reused names, so they can be cached forever. */
+@Component
+@ConditionalOnProperty(name = "storage.images.backend", havingValue = "local")
+public class LocalImageStorage implements ImageStorage {
+
+    private static final Pattern NAME = Pattern.compile("[A-Za-z0-9_-]{1,128}\\.[a-z0-9]{1,5}");
+    private static final Map<String, String> EXTENSIONS = Map.of(
+            "image/jpeg", "jpg",
+            "image/png", "png",
+            "image/webp", "webp",
+            "image/gif", "gif",
+            "image/heic", "heic",
+            "image/avif", "avif"
+    );
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "jpg", "image/jpeg",
+            "jpeg", "image/jpeg",
+            "png", "image/png",
+            "webp", "image/webp",
+            "gif", "image/gif",
+            "heic", "image/heic",
+            "avif", "image/avif"
+    );
+
+    @Value("${storage.images.local.directory:data/images}")
+    private Path directory;
+
+    @Value("${storage.images.local.base-url:http://localhost:8080/api/images}")
+    private String baseUrl;
+
+    @PostConstruct
+    void init() throws IOException {
+        directory = Files.createDirectories(directory).toRealPath();
+        if (baseUrl.endsWith("/")) {
+            baseUrl = baseUrl.substring(0, baseUrl.length() - 1);
+        }
+    }
+
+    @Override
+    public String store(InputStream content, String filename, String contentType) throws IOException {
+        String name = UUID.randomUUID() + "." + extension(filename, contentType);
+        // Written under a temporary name and renamed, so a half-written file is never served
+        Path partial = directory.resolve(name + ".part");
+        try {
+            Files.copy(content, partial);
+            Files.move(partial, directory.resolve(name), StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(partial);
+        }
+        return baseUrl + "/" + name;
+    }
+
+    @Override
+    public void delete(String url) throws IOException {
+        if (url == null || !url.startsWith(baseUrl + "/")) {
+            return;
+        }
+        Path path = resolve(url.substring(baseUrl.length() + 1));
+        if (path != null) {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    /** Path of a stored image, or null when {@code name} cannot be one. */
+    public Path resolve(String name) {
+        if (name == null || !NAME.matcher(name).matches()) {
+            return null;
+        }
+        Path path = directory.resolve(name).normalize();
+        return path.getParent().equals(directory) ? path : null;
+    }
+
+    public String contentType(String name) {
+        String extension = name.substring(name.lastIndexOf('.') + 1);
+        return CONTENT_TYPES.getOrDefault(extension, "application/octet-stream");
+    }
+
+    private static String extension(String filename, String contentType) {
+        if (contentType != null) {
+            String fromType = EXTENSIONS.get(contentType.toLowerCase(Locale.ROOT));
+            if (fromType != null) {
+                return fromType;
+            }
+        }
+        if (filename != null && filename.lastIndexOf('.') >= 0) {
+            String fromName = filename.substring(filename.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+            if (CONTENT_TYPES.containsKey(fromName)) {
+                return fromName;
+            }
+        }
+        return "bin";
+    }
+}
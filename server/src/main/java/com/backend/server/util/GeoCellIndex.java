@@ -0,0 +1,278 @@
+package com.backend.server.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** In-memory radius search over fixed geohash cells. Reads are lock-free; writes replace whole cells. */
+public final class GeoCellIndex {
+
+    public static final double EARTH_RADIUS_M = 6_371_008.8;
+
+    private static final int BITS_PER_AXIS = 15;
+    private static final int CELLS_PER_AXIS = 1 << BITS_PER_AXIS;
+    private static final double LAT_CELL_DEG = 180.0 / CELLS_PER_AXIS;
+    private static final double LON_CELL_DEG = 360.0 / CELLS_PER_AXIS;
+    private static final double METERS_PER_DEG_LAT = Math.toRadians(1) * EARTH_RADIUS_M;
+
+    public record Hit(long id, double distanceMeters) {
+    }
+
+    private final Map<Long, Cell> cells;
+    private final Map<Long, Long> cellById;
+
+    public GeoCellIndex() {
+        this(new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+    }
+
+    private GeoCellIndex(Map<Long, Cell> cells, Map<Long, Long> cellById) {
+        this.cells = cells;
+        this.cellById = cellById;
+    }
+
+    public int size() {
+        return cellById.size();
+    }
+
+    public synchronized void put(long id, double latitude, double longitude, int mask) {
+        long cell = cellOf(latitude, longitude);
+        Long previous = cellById.put(id, cell);
+        if (previous != null && previous != cell) {
+            removeFromCell(previous, id);
+        }
+        cells.compute(cell, (key, current) -> current == null
+                ? Cell.of(id, latitude, longitude, mask)
+                : current.with(id, latitude, longitude, mask));
+    }
+
+    public synchronized void remove(long id) {
+        Long previous = cellById.remove(id);
+        if (previous != null) {
+            removeFromCell(previous, id);
+        }
+    }
+
+    /** Points within the radius whose mask has every bit of {@code requiredMask}, nearest first. */
+    public List<Hit> nearest(double latitude, double longitude, double radiusMeters, int requiredMask, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        double latSpan = radiusMeters / METERS_PER_DEG_LAT;
+        double minLat = Math.max(-90.0, latitude - latSpan);
+        double maxLat = Math.min(90.0, latitude + latSpan);
+        int minRow = row(minLat);
+        int maxRow = row(maxLat);
+
+        double widestLat = Math.max(Math.abs(minLat), Math.abs(maxLat));
+        double lonSpan = widestLat >= 90.0 ? 180.0 : latSpan / Math.cos(Math.toRadians(widestLat));
+        int firstCol;
+        int colCount;
+        if (lonSpan >= 180.0) {
+            firstCol = 0;
+            colCount = CELLS_PER_AXIS;
+        } else {
+            firstCol = column(longitude - lonSpan);
+            colCount = Math.min(CELLS_PER_AXIS, Math.floorMod(column(longitude + lonSpan) - firstCol, CELLS_PER_AXIS) + 1);
+        }
+
+        double lat0 = Math.toRadians(latitude);
+        double lon0 = Math.toRadians(longitude);
+        double cosLat0 = Math.cos(lat0);
+        // Max-heap on distance holding the best `limit` hits so far
+        PriorityQueue<Hit> best = new PriorityQueue<>(Comparator.comparingDouble(Hit::distanceMeters).reversed());
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int i = 0; i < colCount; i++) {
+                Cell cell = cells.get(interleave(row, (firstCol + i) & (CELLS_PER_AXIS - 1)));
+                if (cell == null) {
+                    continue;
+                }
+                for (int p = 0; p < cell.ids.length; p++) {
+                    if ((cell.masks[p] & requiredMask) != requiredMask || Math.abs(cell.latitudes[p] - latitude) > latSpan) {
+                        continue;
+                    }
+                    double distance = haversine(lat0, lon0, cosLat0, cell.latitudes[p], cell.longitudes[p], cell.cosLatitudes[p]);
+                    if (distance > radiusMeters) {
+                        continue;
+                    }
+                    if (best.size() < limit) {
+                        best.add(new Hit(cell.ids[p], distance));
+                    } else if (distance < best.peek().distanceMeters()) {
+                        best.poll();
+                        best.add(new Hit(cell.ids[p], distance));
+                    }
+                }
+            }
+        }
+        List<Hit> hits = new ArrayList<>(best);
+        hits.sort(Comparator.comparingDouble(Hit::distanceMeters));
+        return hits;
+    }
+
+    public static double distanceMeters(double lat1, double lon1, double lat2, double lon2) {
+        double phi1 = Math.toRadians(lat1);
+        return haversine(phi1, Math.toRadians(lon1), Math.cos(phi1), lat2, lon2, Math.cos(Math.toRadians(lat2)));
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private void removeFromCell(long cell, long id) {
+        cells.computeIfPresent(cell, (key, current) -> current.without(id));
+    }
+
+    private static double haversine(double lat0, double lon0, double cosLat0, double latDeg, double lonDeg, double cosLat) {
+        double sinHalfDLat = Math.sin((Math.toRadians(latDeg) - lat0) / 2);
+        double sinHalfDLon = Math.sin((Math.toRadians(lonDeg) - lon0) / 2);
+        double a = sinHalfDLat * sinHalfDLat + cosLat0 * cosLat * sinHalfDLon * sinHalfDLon;
+        return 2 * EARTH_RADIUS_M * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    private static long cellOf(double latitude, double longitude) {
+        return interleave(row(latitude), column(longitude));
+    }
+
+    private static int row(double latitude) {
+        return Math.min(CELLS_PER_AXIS - 1, (int) ((latitude + 90.0) / LAT_CELL_DEG));
+    }
+
+    private static int column(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180.0) / LON_CELL_DEG), CELLS_PER_AXIS);
+    }
+
+    /** Geohash bit order: longitude bits on even positions, latitude bits on odd positions. */
+    private static long interleave(int row, int column) {
+        return (spread(row) << 1) | spread(column);
+    }
+
+    private static long spread(int value) {
+        long x = value & 0xffffffffL;
+        x = (x | (x << 16)) & 0x0000ffff0000ffffL;
+        x = (x | (x << 8)) & 0x00ff00ff00ff00ffL;
+        x = (x | (x << 4)) & 0x0f0f0f0f0f0f0f0fL;
+        x = (x | (x << 2)) & 0x3333333333333333L;
+        x = (x | (x << 1)) & 0x5555555555555555L;
+        return x;
+    }
+
+    /** Immutable; replaced, never mutated. */
+    private static final class Cell {
+
+        private final long[] ids;
+        private final double[] latitudes;
+        private final double[] longitudes;
+        private final double[] cosLatitudes;
+        private final int[] masks;
+
+        private Cell(long[] ids, double[] latitudes, double[] longitudes, double[] cosLatitudes, int[] masks) {
+            this.ids = ids;
+            this.latitudes = latitudes;
+            this.longitudes = longitudes;
+            this.cosLatitudes = cosLatitudes;
+            this.masks = masks;
+        }
+
+        static Cell of(long id, double latitude, double longitude, int mask) {
+            return new Cell(new long[]{id}, new double[]{latitude}, new double[]{longitude},
+                    new double[]{Math.cos(Math.toRadians(latitude))}, new int[]{mask});
+        }
+
+        Cell with(long id, double latitude, double longitude, int mask) {
+            int index = indexOf(id);
+            int size = ids.length;
+            int target = index >= 0 ? index : size;
+            int newSize = index >= 0 ? size : size + 1;
+            Cell copy = new Cell(Arrays.copyOf(ids, newSize), Arrays.copyOf(latitudes, newSize),
+                    Arrays.copyOf(longitudes, newSize), Arrays.copyOf(cosLatitudes, newSize), Arrays.copyOf(masks, newSize));
+            copy.ids[target] = id;
+            copy.latitudes[target] = latitude;
+            copy.longitudes[target] = longitude;
+            copy.cosLatitudes[target] = Math.cos(Math.toRadians(latitude));
+            copy.masks[target] = mask;
+            return copy;
+        }
+
+        /** Returns null when the cell becomes empty so the map drops it. */
+        Cell without(long id) {
+            int index = indexOf(id);
+            if (index < 0) {
+                return this;
+            }
+            int last = ids.length - 1;
+            if (last == 0) {
+                return null;
+            }
+            Cell copy = new Cell(Arrays.copyOf(ids, last), Arrays.copyOf(latitudes, last),
+                    Arrays.copyOf(longitudes, last), Arrays.copyOf(cosLatitudes, last), Arrays.copyOf(masks, last));
+            if (index != last) {
+                copy.ids[index] = ids[last];
+                copy.latitudes[index] = latitudes[last];
+                copy.longitudes[index] = longitudes[last];
+                copy.cosLatitudes[index] = cosLatitudes[last];
+                copy.masks[index] = masks[last];
+            }
+            return copy;
+        }
+
+        private int indexOf(long id) {
+            for (int i = 0; i < ids.length; i++) {
+                if (ids[i] == id) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    public static final class Builder {
+
+        private record Point(long id, double latitude, double longitude, int mask) {
+        }
+
+        private final Map<Long, List<Point>> points = new HashMap<>();
+        private final Map<Long, Long> cellById = new HashMap<>();
+
+        private Builder() {
+        }
+
+        public Builder add(long id, double latitude, double longitude, int mask) {
+            long cell = cellOf(latitude, longitude);
+            Long previous = cellById.put(id, cell);
+            if (previous != null) {
+                points.get(previous).removeIf(point -> point.id() == id);
+            }
+            points.computeIfAbsent(cell, key -> new ArrayList<>()).add(new Point(id, latitude, longitude, mask));
+            return this;
+        }
+
+        public GeoCellIndex build() {
+            Map<Long, Cell> cells = new ConcurrentHashMap<>(Math.max(16, points.size() * 4 / 3));
+            points.forEach((key, list) -> {
+                if (list.isEmpty()) {
+                    return;
+                }
+                int n = list.size();
+                long[] ids = new long[n];
+                double[] latitudes = new double[n];
+                double[] longitudes = new double[n];
+                double[] cosLatitudes = new double[n];
+                int[] masks = new int[n];
+                for (int i = 0; i < n; i++) {
+                    Point point = list.get(i);
+                    ids[i] = point.id();
+                    latitudes[i] = point.latitude();
+                    longitudes[i] = point.longitude();
+                    cosLatitudes[i] = Math.cos(Math.toRadians(point.latitude()));
+                    masks[i] = point.mask();
+                }
+                cells.put(key, new Cell(ids, latitudes, longitudes, cosLatitudes, masks));
+            });
+            return new GeoCellIndex(cells, new ConcurrentHashMap<>(cellById));
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package com.backend.server.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/** Inverted index for type-ahead search; the last query word is a prefix. Writes are serialized. */
+public final class PrefixSearchIndex {
+
+    public record Match(long id, String text, double score) {
+    }
+
+    private record Document(String text, String[] tokens) {
+    }
+
+    private static final long[] NO_POSTINGS = new long[0];
+    // Walking postings costs this many times more per posting than a prefix walk
+    private static final int DOCUMENT_SCAN_COST = 4;
+    /** Up to this many terms under the prefix, a word walk probes their postings instead of reading documents. */
+    private static final int MAX_PROBED_PREFIX_TERMS = 16;
+
+    private final ConcurrentSkipListMap<String, long[]> postings;
+    private final Map<Long, Document> documents;
+
+    public PrefixSearchIndex() {
+        this(new ConcurrentSkipListMap<>(), new ConcurrentHashMap<>());
+    }
+
+    private PrefixSearchIndex(ConcurrentSkipListMap<String, long[]> postings, Map<Long, Document> documents) {
+        this.postings = postings;
+        this.documents = documents;
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    public synchronized void put(long id, String text) {
+        remove(id);
+        String[] tokens = tokenize(text);
+        documents.put(id, new Document(text, tokens));
+        for (String token : tokens) {
+            postings.compute(token, (term, ids) -> insert(ids == null ? NO_POSTINGS : ids, id));
+        }
+    }
+
+    public synchronized void remove(long id) {
+        Document previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String token : previous.tokens()) {
+            postings.computeIfPresent(token, (term, ids) -> {
+                long[] remaining = delete(ids, id);
+                return remaining.length == 0 ? null : remaining;
+            });
+        }
+    }
+
+    public List<Match> search(String query, int limit) {
+        String[] queryTokens = tokenize(query);
+        if (queryTokens.length == 0 || limit <= 0) {
+            return List.of();
+        }
+        String prefix = queryTokens[queryTokens.length - 1];
+        long[][] words = new long[queryTokens.length - 1][];
+        for (int i = 0; i < words.length; i++) {
+            long[] ids = postings.get(queryTokens[i]);
+            if (ids == null) {
+                return List.of();
+            }
+            words[i] = ids;
+        }
+        Arrays.sort(words, Comparator.comparingInt(ids -> ids.length));
+
+        NavigableMap<String, long[]> prefixTerms = prefixRange(prefix);
+        long prefixPostings = 0;
+        for (long[] ids : prefixTerms.values()) {
+            prefixPostings += ids.length;
+            if (words.length > 0 && prefixPostings > (long) words[0].length * DOCUMENT_SCAN_COST) {
+                break;
+            }
+        }
+        if (prefixPostings == 0) {
+            return List.of();
+        }
+
+        PriorityQueue<Match> best = new PriorityQueue<>(Comparator.comparingDouble(Match::score));
+        if (words.length > 0 && (long) words[0].length * DOCUMENT_SCAN_COST < prefixPostings) {
+            if (prefixTerms.size() <= MAX_PROBED_PREFIX_TERMS) {
+                probeRarestWord(words, prefix, prefixTerms, limit, best);
+            } else {
+                scanRarestWord(words, prefix, limit, best);
+            }
+        } else {
+            scanPrefixTerms(prefixTerms, prefix, words, limit, best);
+        }
+        List<Match> matches = new ArrayList<>(best.size());
+        for (Match match : best) {
+            Document document = documents.get(match.id());
+            if (document != null) {
+                matches.add(new Match(match.id(), document.text(), match.score()));
+            }
+        }
+        matches.sort(Comparator.comparingDouble(Match::score).reversed());
+        return matches;
+    }
+
+    private void scanRarestWord(long[][] words, String prefix, int limit, PriorityQueue<Match> best) {
+        int[] cursors = new int[words.length];
+        for (long id : words[0]) {
+            if (!containsAll(words, 1, cursors, id)) {
+                continue;
+            }
+            Document document = documents.get(id);
+            if (document == null) {
+                continue;
+            }
+            double prefixScore = prefixScore(prefix, document.tokens());
+            if (prefixScore > 0) {
+                offer(best, limit, id, words.length + prefixScore);
+            }
+        }
+    }
+
+    private void probeRarestWord(long[][] words, String prefix, NavigableMap<String, long[]> prefixTerms, int limit,
+                                 PriorityQueue<Match> best) {
+        List<Map.Entry<String, long[]>> terms = new ArrayList<>(prefixTerms.entrySet());
+        terms.sort(Comparator.comparingInt(entry -> entry.getKey().length()));
+        long[][] termPostings = new long[terms.size()][];
+        double[] termScores = new double[terms.size()];
+        for (int t = 0; t < terms.size(); t++) {
+            termPostings[t] = terms.get(t).getValue();
+            termScores[t] = words.length + (double) prefix.length() / terms.get(t).getKey().length();
+        }
+        int[] wordCursors = new int[words.length];
+        int[] termCursors = new int[termPostings.length];
+        for (long id : words[0]) {
+            if (!containsAll(words, 1, wordCursors, id)) {
+                continue;
+            }
+            for (int t = 0; t < termPostings.length; t++) {
+                long[] ids = termPostings[t];
+                int position = gallop(ids, termCursors[t], id);
+                termCursors[t] = position;
+                if (position < ids.length && ids[position] == id) {
+                    offer(best, limit, id, termScores[t]);
+                    break;
+                }
+            }
+        }
+    }
+
+    /** Stops once a newly met document can no longer beat the top k. */
+    private void scanPrefixTerms(NavigableMap<String, long[]> prefixTerms, String prefix, long[][] words, int limit,
+                                 PriorityQueue<Match> best) {
+        List<Map.Entry<String, long[]>> terms = new ArrayList<>(prefixTerms.entrySet());
+        terms.sort(Comparator.comparingInt(entry -> entry.getKey().length()));
+        Set<Long> matched = terms.size() > 1 ? new HashSet<>() : null;
+        for (Map.Entry<String, long[]> term : terms) {
+            double score = words.length + (double) prefix.length() / term.getKey().length();
+            int[] cursors = new int[words.length];
+            for (long id : term.getValue()) {
+                if (best.size() == limit && best.peek().score() >= score) {
+                    return;
+                }
+                if (containsAll(words, 0, cursors, id) && (matched == null || matched.add(id))) {
+                    offer(best, limit, id, score);
+                }
+            }
+        }
+    }
+
+    /** Lower-cased, accent-stripped alphanumeric tokens of {@code text}, without duplicates. */
+    public static String[] tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return new String[0];
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKD)
+                .replaceAll("\\p{M}+", "")
+                .toLowerCase(Locale.ROOT);
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String token : normalized.split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens.toArray(new String[0]);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private NavigableMap<String, long[]> prefixRange(String prefix) {
+        return postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
+    /** Best {@code prefix.length / token.length} over the document tokens starting with {@code prefix}; 0 if none. */
+    private static double prefixScore(String prefix, String[] documentTokens) {
+        double best = 0;
+        for (String token : documentTokens) {
+            if (token.startsWith(prefix)) {
+                best = Math.max(best, (double) prefix.length() / token.length());
+            }
+        }
+        return best;
+    }
+
+    /** Callers probe ascending ids, so each cursor only moves forward. */
+    private static boolean containsAll(long[][] words, int from, int[] cursors, long id) {
+        for (int i = from; i < words.length; i++) {
+            long[] ids = words[i];
+            int position = gallop(ids, cursors[i], id);
+            cursors[i] = position;
+            if (position == ids.length || ids[position] != id) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Index of the first element at or after {@code from} that is not less than {@code target}. */
+    private static int gallop(long[] ids, int from, long target) {
+        int step = 1;
+        int low = from;
+        int high = from;
+        while (high < ids.length && ids[high] < target) {
+            low = high + 1;
+            high = from + step;
+            step <<= 1;
+        }
+        int index = Arrays.binarySearch(ids, low, Math.min(high + 1, ids.length), target);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    /** Keeps the top {@code limit} scores; texts are filled in once the final matches are known. */
+    private static void offer(PriorityQueue<Match> best, int limit, long id, double score) {
+        if (best.size() < limit) {
+            best.add(new Match(id, null, score));
+        } else if (score > best.peek().score()) {
+            best.poll();
+            best.add(new Match(id, null, score));
+        }
+    }
+
+    private static long[] insert(long[] ids, long id) {
+        int index = Arrays.binarySearch(ids, id);
+        if (index >= 0) {
+            return ids;
+        }
+        int at = -index - 1;
+        long[] copy = new long[ids.length + 1];
+        System.arraycopy(ids, 0, copy, 0, at);
+        copy[at] = id;
+        System.arraycopy(ids, at, copy, at + 1, ids.length - at);
+        return copy;
+    }
+
+    private static long[] delete(long[] ids, long id) {
+        int index = Arrays.binarySearch(ids, id);
+        if (index < 0) {
+            return ids;
+        }
+        long[] copy = new long[ids.length - 1];
+        System.arraycopy(ids, 0, copy, 0, index);
+        System.arraycopy(ids, index + 1, copy, index, ids.length - index - 1);
+        return copy;
+    }
+
+    public static final class Builder {
+
+        private final Map<Long, Document> documents = new HashMap<>();
+
+        private Builder() {
+        }
+
+        public Builder add(long id, String text) {
+            documents.put(id, new Document(text, tokenize(text)));
+            return this;
+        }
+
+        public PrefixSearchIndex build() {
+            Map<String, List<Long>> lists = new HashMap<>();
+            documents.forEach((id, document) -> {
+                for (String token : document.tokens()) {
+                    lists.computeIfAbsent(token, term -> new ArrayList<>()).add(id);
+                }
+            });
+            ConcurrentSkipListMap<String, long[]> postings = new ConcurrentSkipListMap<>();
+            lists.forEach((term, ids) -> {
+                long[] sorted = ids.stream().mapToLong(Long::longValue).sorted().toArray();
+                postings.put(term, sorted);
+            });
+            return new PrefixSearchIndex(postings, new ConcurrentHashMap<>(documents));
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.backend.server.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/** An in-memory index whose rebuilds replay the updates made while they ran. */
+public final class RebuildableIndex<I, U> {
+
+    private final BiConsumer<I, U> apply;
+    private volatile I current;
+    private List<U> updatesDuringRebuild;
+
+    /** {@code initial} may be null; updates then only reach the next rebuild. */
+    public RebuildableIndex(I initial, BiConsumer<I, U> apply) {
+        this.current = initial;
+        this.apply = apply;
+    }
+
+    public I get() {
+        return current;
+    }
+
+    public synchronized void update(U update) {
+        if (current != null) {
+            apply.accept(current, update);
+        }
+        if (updatesDuringRebuild != null) {
+            updatesDuringRebuild.add(update);
+        }
+    }
+
+    public void rebuild(Supplier<I> build) {
+        synchronized (this) {
+            updatesDuringRebuild = new ArrayList<>();
+        }
+        try {
+            I rebuilt = build.get();
+            synchronized (this) {
+                updatesDuringRebuild.forEach(update -> apply.accept(rebuilt, update));
+                current = rebuilt;
+            }
+        } finally {
+            synchronized (this) {
+                updatesDuringRebuild = null;
+            }
+        }
+    }
+}
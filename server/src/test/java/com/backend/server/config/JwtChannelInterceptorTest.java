@@ -0,0 +1,91 @@
+package com.backend.server.config;
+
+import com.backend.server.security.StompSessionAuthorizations;
+import com.backend.server.security.TokenDenylist;
+import com.backend.server.service.JwtService;
+import com.backend.server.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.access.AccessDeniedException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JwtChannelInterceptorTest {
+
+    private static final String SESSION = "session-1";
+
+    private StompSessionAuthorizations sessionAuthorizations;
+    private JwtChannelInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        sessionAuthorizations = mock(StompSessionAuthorizations.class);
+        interceptor = new JwtChannelInterceptor(mock(JwtService.class), mock(UserService.class),
+                mock(TokenDenylist.class), sessionAuthorizations);
+        when(sessionAuthorizations.userId(SESSION)).thenReturn(7L);
+        when(sessionAuthorizations.canUseConversation(SESSION, 42L)).thenReturn(true);
+    }
+
+    @Test
+    void allowsSubscribingToAGrantedConversation() {
+        Message<?> message = frame(StompCommand.SUBSCRIBE, "/topic/conversation/42");
+
+        assertThat(interceptor.preSend(message, null)).isSameAs(message);
+    }
+
+    @Test
+    void rejectsConversationsTheUserIsNotPartOf() {
+        assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.SUBSCRIBE, "/topic/conversation/43"), null))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    void rejectsSubscriptionsFromUnauthenticatedSessions() {
+        when(sessionAuthorizations.userId(SESSION)).thenReturn(null);
+
+        assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.SUBSCRIBE, "/topic/conversation/42"), null))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "/topic/**", "/topic/*/42", "/topic/conversation/*", "/topic/conversation/4?",
+            "/topic/conversation/{id}", "/topic/conversation/42/**", "/topic/other", "/topic/conversation/+42",
+            "/user/queue/errors", "/app/chat"
+    })
+    void deniesEverythingElse(String destination) {
+        assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.SUBSCRIBE, destination), null))
+                .isInstanceOf(AccessDeniedException.class);
+        verify(sessionAuthorizations, never()).canUseConversation(anyString(), any());
+    }
+
+    @Test
+    void sendsOnlyReachApplicationHandlers() {
+        Message<?> chat = frame(StompCommand.SEND, "/app/chat");
+        assertThat(interceptor.preSend(chat, null)).isSameAs(chat);
+
+        assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.SEND, "/topic/conversation/42"), null))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    private static Message<byte[]> frame(StompCommand command, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(SESSION);
+        accessor.setDestination(destination);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,95 @@
+package com.backend.server.entity;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VehicleTypeTest {
+
+    @Test
+    void parsesLabelsNamesAliasesAndPluralsCaseInsensitively() {
+        assertThat(VehicleType.parse("Car").mask()).isEqualTo(VehicleType.CAR.bit());
+        assertThat(VehicleType.parse("  suv ").mask()).isEqualTo(VehicleType.SUV.bit());
+        assertThat(VehicleType.parse("BICYCLE").mask()).isEqualTo(VehicleType.BICYCLE.bit());
+        assertThat(VehicleType.parse("Two-Wheeler").mask()).isEqualTo(VehicleType.BIKE.bit());
+        assertThat(VehicleType.parse("Sedan").mask()).isEqualTo(VehicleType.CAR.bit());
+        assertThat(VehicleType.parse("cars").mask()).isEqualTo(VehicleType.CAR.bit());
+        assertThat(VehicleType.parse("Buses").mask()).isEqualTo(VehicleType.BUS.bit());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Car, Bike", "Car; Bike", "Car / Bike", "Car|Bike", "Car & Bike", "Car + Bike",
+            "Car and Bike", "car,bike,", ", Car ,, Bike"})
+    void acceptsEverySeparator(String text) {
+        VehicleType.Parsed parsed = VehicleType.parse(text);
+
+        assertThat(parsed.mask()).isEqualTo(VehicleType.CAR.bit() | VehicleType.BIKE.bit());
+        assertThat(parsed.unknown()).isEmpty();
+    }
+
+    @Test
+    void duplicatesAndSynonymsCollapseToOneBit() {
+        assertThat(VehicleType.parse("Car, car, sedan, hatchback").mask()).isEqualTo(VehicleType.CAR.bit());
+    }
+
+    @Test
+    void collectsUnknownTokensInOrderWithoutDuplicates() {
+        VehicleType.Parsed parsed = VehicleType.parse("Car, Hovercraft, Tank, Hovercraft");
+
+        assertThat(parsed.mask()).isEqualTo(VehicleType.CAR.bit());
+        assertThat(parsed.unknown()).containsExactly("Hovercraft", "Tank");
+    }
+
+    @Test
+    void doesNotSplitWordsThatMerelyContainAnd() {
+        assertThat(VehicleType.parse("Bandwagon").unknown()).containsExactly("Bandwagon");
+    }
+
+    @Test
+    void nullAndBlankParseToNothing() {
+        assertThat(VehicleType.parse(null).mask()).isZero();
+        assertThat(VehicleType.parse("  ,  ").unknown()).isEmpty();
+        assertThat(VehicleType.fromName(null)).isNull();
+    }
+
+    @Test
+    void parseMaskRejectsUnknownTypes() {
+        assertThatThrownBy(() -> VehicleType.parseMask("Car, Hovercraft"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Hovercraft")
+                .hasMessageContaining(VehicleType.describe(VehicleType.ALL_MASK));
+    }
+
+    @Test
+    void parseMaskRequiresAtLeastOneType() {
+        assertThatThrownBy(() -> VehicleType.parseMask(" , "))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("At least one vehicle type is required");
+        assertThatThrownBy(() -> VehicleType.parseMask(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void describeIsCanonicalAndRoundTrips() {
+        int mask = VehicleType.parseMask("suv, two wheeler and CARS");
+
+        assertThat(VehicleType.describe(mask)).isEqualTo("Bike, Car, SUV");
+        assertThat(VehicleType.parseMask(VehicleType.describe(mask))).isEqualTo(mask);
+        assertThat(VehicleType.parseMask(VehicleType.describe(VehicleType.ALL_MASK))).isEqualTo(VehicleType.ALL_MASK);
+        assertThat(VehicleType.describe(0)).isEmpty();
+    }
+
+    @Test
+    void bitsAreDistinctAndFormAllMask() {
+        int seen = 0;
+        for (VehicleType type : VehicleType.values()) {
+            assertThat(Integer.bitCount(type.bit())).isEqualTo(1);
+            assertThat(seen & type.bit()).isZero();
+            seen |= type.bit();
+        }
+        assertThat(seen).isEqualTo(VehicleType.ALL_MASK);
+        assertThat(VehicleType.fromMask(VehicleType.ALL_MASK)).containsExactly(VehicleType.values());
+    }
+}
@@ -0,0 +1,59 @@
+package com.backend.server.exception;
+
+import com.backend.server.dto.ErrorResponse;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+    private final MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/register");
+
+    @Test
+    void uniqueViolationIsAConflictNamingTheColumn() {
+        ResponseEntity<ErrorResponse> response = handler.handleDataIntegrityViolationException(
+                violation("ERROR: duplicate key value violates unique constraint \"uk_users_username\"\n"
+                        + "  Detail: Key (username)=(alice) already exists.", "23505"), request);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody().getMessage()).isEqualTo("Username already exists: alice");
+    }
+
+    @Test
+    void otherIntegrityViolationsAreBadRequests() {
+        for (String sqlState : new String[] {"23502", "23503", "22001"}) {
+            ResponseEntity<ErrorResponse> response = handler.handleDataIntegrityViolationException(
+                    violation("ERROR: constraint failed", sqlState), request);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+            assertThat(response.getBody().getMessage()).doesNotContain("already exists");
+        }
+    }
+
+    @Test
+    void missingResourcesAreNotFoundAndValidationFailuresBadRequests() {
+        ResponseEntity<ErrorResponse> notFound = handler.handleResourceNotFoundException(
+                new ResourceNotFoundException("Upload job not found: 42"), request);
+        ResponseEntity<ErrorResponse> badRequest = handler.handleBadRequestException(
+                new BadRequestException("At least one image file is required"), request);
+
+        assertThat(notFound.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(notFound.getBody().getMessage()).isEqualTo("Upload job not found: 42");
+        assertThat(badRequest.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(badRequest.getBody().getMessage()).isEqualTo("At least one image file is required");
+    }
+
+    private static DataIntegrityViolationException violation(String message, String sqlState) {
+        SQLException sql = new SQLException(message, sqlState);
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", sql, null));
+    }
+}
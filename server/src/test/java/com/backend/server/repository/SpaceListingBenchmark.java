@@ -0,0 +1,112 @@
+package com.backend.server.repository;
+
+import com.backend.server.dto.SpaceListItem;
+import com.backend.server.entity.ParkingSpace;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.ToLongFunction;
+
+/**
+ * Reads 100k spaces the two ways a listing can: as managed {@link ParkingSpace} entities (what listings did
+ * before) and through the {@link ParkingSpaceRepository#LIST_ITEM} constructor projection. Reports median
+ * latency and bytes allocated on the calling thread per full read. Runs Hibernate against in-memory H2, so
+ * absolute numbers exclude network and Postgres time; the difference is the hydration and persistence-context
+ * cost the projection avoids. Run with {@code ./gradlew spaceListingBenchmark}.
+ */
+public final class SpaceListingBenchmark {
+
+    private static final int SPACES = 100_000;
+    private static final int WARMUP = 5;
+    private static final int RUNS = 15;
+    private static final String ORDER = " order by s.createdAt desc, s.id desc";
+
+    private SpaceListingBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        try (SessionFactory sessionFactory = new Configuration()
+                .addAnnotatedClass(ParkingSpace.class)
+                .setProperty("hibernate.connection.url", "jdbc:h2:mem:listing;DB_CLOSE_DELAY=-1")
+                .setProperty("hibernate.hbm2ddl.auto", "create")
+                .setProperty("hibernate.jdbc.batch_size", "1000")
+                .buildSessionFactory()) {
+            long start = System.nanoTime();
+            insert(sessionFactory);
+            System.out.printf("insert: %,d spaces in %d ms%n", SPACES, (System.nanoTime() - start) / 1_000_000);
+
+            ToLongFunction<SessionFactory> entities = sf -> sf.fromTransaction(session -> {
+                List<ParkingSpace> rows = session.createSelectionQuery("from ParkingSpace s" + ORDER, ParkingSpace.class)
+                        .getResultList();
+                long checksum = 0;
+                for (ParkingSpace space : rows) {
+                    checksum += space.getId() + space.getAddress().length();
+                }
+                return checksum;
+            });
+            ToLongFunction<SessionFactory> projection = sf -> sf.fromTransaction(session -> {
+                List<SpaceListItem> rows = session.createSelectionQuery(
+                        ParkingSpaceRepository.LIST_ITEM + ORDER, SpaceListItem.class).getResultList();
+                long checksum = 0;
+                for (SpaceListItem item : rows) {
+                    checksum += item.id() + item.address().length();
+                }
+                return checksum;
+            });
+
+            run("managed entities", sessionFactory, entities);
+            run("constructor projection", sessionFactory, projection);
+        }
+    }
+
+    private static void insert(SessionFactory sessionFactory) {
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+        sessionFactory.inStatelessTransaction(session -> {
+            for (int i = 0; i < SPACES; i++) {
+                LocalDateTime createdAt = base.plusSeconds(i * 60L);
+                session.insert(ParkingSpace.builder()
+                        .ownerId(1L + random.nextInt(5_000))
+                        .address(random.nextInt(1, 999) + " Residency Road, Block " + random.nextInt(100) + ", Bengaluru")
+                        .squareFeet(100 + random.nextInt(400))
+                        .vehicleTypes("Car, Bike")
+                        .vehicleTypeMask(3)
+                        .rentPerHour(BigDecimal.valueOf(20 + random.nextInt(80)))
+                        .rentPerDay(BigDecimal.valueOf(200 + random.nextInt(800)))
+                        .latitude(12.97 + random.nextDouble(-0.4, 0.4))
+                        .longitude(77.59 + random.nextDouble(-0.4, 0.4))
+                        .createdAt(createdAt)
+                        .updatedAt(createdAt)
+                        .version(0L)
+                        .build());
+            }
+        });
+    }
+
+    private static void run(String label, SessionFactory sessionFactory, ToLongFunction<SessionFactory> read) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        for (int i = 0; i < WARMUP; i++) {
+            read.applyAsLong(sessionFactory);
+        }
+        long[] nanos = new long[RUNS];
+        long[] bytes = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            long allocatedBefore = threads.getThreadAllocatedBytes(thread);
+            long start = System.nanoTime();
+            read.applyAsLong(sessionFactory);
+            nanos[i] = System.nanoTime() - start;
+            bytes[i] = threads.getThreadAllocatedBytes(thread) - allocatedBefore;
+        }
+        Arrays.sort(nanos);
+        Arrays.sort(bytes);
+        System.out.printf("%-24s median %6.1f ms   p90 %6.1f ms   allocated %6.1f MB/read%n",
+                label, nanos[RUNS / 2] / 1e6, nanos[RUNS * 9 / 10] / 1e6, bytes[RUNS / 2] / 1e6);
+    }
+}
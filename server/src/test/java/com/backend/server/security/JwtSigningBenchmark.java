@@ -0,0 +1,83 @@
+package com.backend.server.security;
+
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecureDigestAlgorithm;
+
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.SecureRandom;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Sign/verify throughput for the algorithms the {@link JwtKeyRing} supports, using the claim set
+ * JwtService issues. Verification bypasses the verified-token cache on purpose.
+ * Run with {@code ./gradlew jwtBenchmark}.
+ */
+public final class JwtSigningBenchmark {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    private JwtSigningBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        Key hmacKey = Keys.hmacShaKeyFor(secret);
+        KeyPair edKeys = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+
+        run("HS256", hmacKey, hmacKey, Jwts.SIG.HS256);
+        run("Ed25519", edKeys.getPrivate(), edKeys.getPublic(), Jwts.SIG.EdDSA);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static void run(String name, Key signingKey, Key verificationKey, SecureDigestAlgorithm algorithm) {
+        JwtParser parser = Jwts.parser()
+                .keyLocator(header -> verificationKey)
+                .build();
+
+        for (int i = 0; i < WARMUP; i++) {
+            parser.parseSignedClaims(sign(signingKey, algorithm, i));
+        }
+
+        String[] tokens = new String[ITERATIONS];
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            tokens[i] = sign(signingKey, algorithm, i);
+        }
+        long signNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (String token : tokens) {
+            parser.parseSignedClaims(token);
+        }
+        long verifyNanos = System.nanoTime() - start;
+
+        System.out.printf("%-8s sign: %,10.0f ops/s (%6.2f us/op)   verify: %,10.0f ops/s (%6.2f us/op)   token: %d chars%n",
+                name,
+                ITERATIONS * 1e9 / signNanos, signNanos / 1e3 / ITERATIONS,
+                ITERATIONS * 1e9 / verifyNanos, verifyNanos / 1e3 / ITERATIONS,
+                tokens[0].length());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static String sign(Key key, SecureDigestAlgorithm algorithm, int i) {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .header().keyId("bench").and()
+                .id(UUID.randomUUID().toString())
+                .subject("user" + i)
+                .claim("uid", (long) i)
+                .claim("roles", List.of("ROLE_USER"))
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + 900_000))
+                .signWith(key, algorithm)
+                .compact();
+    }
+}
@@ -0,0 +1,119 @@
+package com.backend.server.security;
+
+import com.backend.server.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginThrottleTest {
+
+    @Test
+    void rejectsAUsernameOnceItReachesTheFailureLimit() {
+        LoginThrottle throttle = throttle(900, 3, 100);
+        for (int i = 0; i < 2; i++) {
+            throttle.loginFailed("alice", "10.0.0." + i);
+        }
+        assertThatCode(() -> throttle.checkLogin("alice", "10.0.0.9")).doesNotThrowAnyException();
+
+        throttle.loginFailed("alice", "10.0.0.3");
+
+        assertThatThrownBy(() -> throttle.checkLogin("alice", "10.0.0.9")).isInstanceOf(TooManyRequestsException.class);
+        assertThatCode(() -> throttle.checkLogin("bob", "10.0.0.9")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void rejectsAnIpAcrossUsernames() {
+        LoginThrottle throttle = throttle(900, 100, 3);
+        for (int i = 0; i < 3; i++) {
+            throttle.loginFailed("user" + i, "10.0.0.1");
+        }
+
+        assertThatThrownBy(() -> throttle.checkLogin("someone-else", "10.0.0.1"))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+
+    @Test
+    void successfulLoginClearsTheUsernameCounter() {
+        LoginThrottle throttle = throttle(900, 2, 100);
+        throttle.loginFailed("alice", "10.0.0.1");
+        throttle.loginFailed("alice", "10.0.0.1");
+
+        throttle.loginSucceeded("alice");
+
+        assertThatCode(() -> throttle.checkLogin("alice", "10.0.0.2")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void failuresExpireWithTheWindow() throws InterruptedException {
+        LoginThrottle throttle = throttle(1, 1, 100);
+        throttle.loginFailed("alice", "10.0.0.1");
+        assertThatThrownBy(() -> throttle.checkLogin("alice", "10.0.0.1")).isInstanceOf(TooManyRequestsException.class);
+
+        Thread.sleep(1_100);
+
+        assertThatCode(() -> throttle.checkLogin("alice", "10.0.0.1")).doesNotThrowAnyException();
+    }
+
+    /**
+     * Parallel failures straddling slot boundaries (100 ms slots) must all be counted: with exactly the limit
+     * recorded the username is throttled, so any lost increment lets the check pass.
+     */
+    @Test
+    void concurrentFailuresAcrossSlotRolloversAreNotLost() throws Exception {
+        int threads = 8;
+        int perThread = 10_000;
+        for (int round = 0; round < 5; round++) {
+            LoginThrottle throttle = throttle(1, threads * perThread, Integer.MAX_VALUE);
+            ExecutorService pool = Executors.newFixedThreadPool(threads);
+            try {
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    futures.add(pool.submit(() -> {
+                        start.await();
+                        for (int i = 0; i < perThread; i++) {
+                            throttle.loginFailed("alice", "10.0.0.1");
+                        }
+                        return null;
+                    }));
+                }
+                // Start just before a 100 ms slot boundary so the burst rolls buckets over
+                while (System.currentTimeMillis() % 100 < 95) {
+                    Thread.onSpinWait();
+                }
+                start.countDown();
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } finally {
+                pool.shutdown();
+            }
+
+            assertThatThrownBy(() -> throttle.checkLogin("alice", "10.0.0.2"))
+                    .isInstanceOf(TooManyRequestsException.class);
+        }
+    }
+
+    @Test
+    void registrationsAreLimitedPerIp() {
+        LoginThrottle throttle = new LoginThrottle(900, 5, 20, 2, new SimpleMeterRegistry());
+        throttle.checkRegistration("10.0.0.1");
+        throttle.checkRegistration("10.0.0.1");
+
+        assertThatThrownBy(() -> throttle.checkRegistration("10.0.0.1")).isInstanceOf(TooManyRequestsException.class);
+        assertThatCode(() -> throttle.checkRegistration("10.0.0.2")).doesNotThrowAnyException();
+    }
+
+    private static LoginThrottle throttle(long windowSeconds, int maxPerUsername, int maxPerIp) {
+        return new LoginThrottle(windowSeconds, maxPerUsername, maxPerIp, 10, new SimpleMeterRegistry());
+    }
+}
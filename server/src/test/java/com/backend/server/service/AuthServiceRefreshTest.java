@@ -0,0 +1,101 @@
+package com.backend.server.service;
+
+import com.backend.server.dto.AuthResponse;
+import com.backend.server.entity.User;
+import com.backend.server.exception.InvalidTokenException;
+import com.backend.server.security.LoginThrottle;
+import com.backend.server.security.TokenDenylist;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Refresh-token rotation against a real database. Runs without a test transaction so every service call commits
+ * (or rolls back) exactly as it does in production.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({AuthService.class, RefreshTokenService.class})
+class AuthServiceRefreshTest {
+
+    private static final Long USER_ID = 42L;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @MockitoBean
+    private UserService userService;
+
+    @MockitoBean
+    private JwtService jwtService;
+
+    @MockitoBean
+    private TokenDenylist tokenDenylist;
+
+    @MockitoBean
+    private AuthenticationManager authenticationManager;
+
+    @MockitoBean
+    private PasswordVerificationService passwordVerificationService;
+
+    @MockitoBean
+    private UserAvailabilityService userAvailabilityService;
+
+    @MockitoBean
+    private LoginThrottle loginThrottle;
+
+    @BeforeEach
+    void setUp() {
+        when(userService.findById(USER_ID)).thenReturn(User.builder().id(USER_ID).username("alice").build());
+        when(jwtService.generateToken(any(User.class))).thenReturn("access-token");
+    }
+
+    @Test
+    void rotatesToANewRefreshToken() {
+        String first = refreshTokenService.issue(USER_ID);
+
+        AuthResponse rotated = authService.refresh(first);
+
+        assertThat(rotated.getRefreshToken()).isNotBlank().isNotEqualTo(first);
+        assertThat(authService.refresh(rotated.getRefreshToken()).getRefreshToken()).isNotBlank();
+    }
+
+    @Test
+    void replayingARotatedTokenRevokesTheWholeFamily() {
+        String stolen = refreshTokenService.issue(USER_ID);
+        String sibling = authService.refresh(stolen).getRefreshToken();
+
+        assertThatThrownBy(() -> authService.refresh(stolen))
+                .isInstanceOf(InvalidTokenException.class)
+                .hasMessageContaining("reuse");
+        // The revocation must have committed even though the replay failed
+        assertThatThrownBy(() -> authService.refresh(sibling))
+                .isInstanceOf(InvalidTokenException.class)
+                .hasMessageContaining("revoked");
+    }
+
+    @Test
+    void otherFamiliesSurviveAReplay() {
+        String stolen = refreshTokenService.issue(USER_ID);
+        String otherDevice = refreshTokenService.issue(USER_ID);
+        authService.refresh(stolen);
+
+        assertThatThrownBy(() -> authService.refresh(stolen)).isInstanceOf(InvalidTokenException.class);
+
+        assertThat(authService.refresh(otherDevice).getRefreshToken()).isNotBlank();
+    }
+}
@@ -0,0 +1,132 @@
+package com.backend.server.service;
+
+import com.backend.server.dto.ImageUploadJobResponse;
+import com.backend.server.dto.ImageUploadJobResponse.Status;
+import com.backend.server.entity.StoredImage;
+import com.backend.server.exception.BadRequestException;
+import com.backend.server.exception.PayloadTooLargeException;
+import com.backend.server.exception.ResourceNotFoundException;
+import com.backend.server.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ImageUploadServiceTest {
+
+    private static final long OWNER = 7L;
+
+    private final ImageVariantService imageVariantService = mock(ImageVariantService.class);
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private ImageUploadService service;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        release.countDown();
+        service.shutdown();
+    }
+
+    @Test
+    void laterBatchFilesKeepTheirSlotWhenTheSharedQueueFills() throws Exception {
+        service = service(1, 1, 1);
+        blockFirstStore();
+
+        List<ImageUploadJobResponse> batch = service.submitBatch(OWNER, List.of(image("a"), image("b"), image("c")));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        // Another user's upload takes the only queue slot while the batch's first file is processing
+        service.submit(8L, image("other"));
+        assertThatThrownBy(() -> service.submit(8L, image("rejected"))).isInstanceOf(TooManyRequestsException.class);
+        release.countDown();
+
+        for (ImageUploadJobResponse job : batch) {
+            assertThat(awaitFinished(job.getJobId()).getStatus()).isEqualTo(Status.DONE);
+        }
+    }
+
+    @Test
+    void invalidFilesInABatchAreReportedPerFile() throws Exception {
+        service = service(2, 8, 2);
+        when(imageVariantService.store(any(), anyString(), anyString())).thenReturn(stored());
+        MultipartFile oversized = new MockMultipartFile("files", "big.jpg", "image/jpeg", new byte[1025]);
+        MultipartFile empty = new MockMultipartFile("files", "empty.jpg", "image/jpeg", new byte[0]);
+
+        List<ImageUploadJobResponse> batch = service.submitBatch(OWNER, List.of(image("a"), oversized, empty));
+
+        assertThat(batch).extracting(ImageUploadJobResponse::getStatus)
+                .containsExactly(Status.QUEUED, Status.FAILED, Status.FAILED);
+        assertThat(batch.get(1).getError()).contains("1024-byte limit");
+        assertThat(batch.get(2).getError()).isEqualTo("Image file is required");
+        assertThat(awaitFinished(batch.get(0).getJobId()).getStatus()).isEqualTo(Status.DONE);
+    }
+
+    @Test
+    void rejectsMalformedRequestsAsBadRequests() throws IOException {
+        service = service(1, 1, 1);
+
+        assertThatThrownBy(() -> service.submitBatch(OWNER, List.of())).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> service.submitBatch(OWNER, List.of(image("1"), image("2"), image("3"), image("4"))))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("At most 3");
+        assertThatThrownBy(() -> service.submit(OWNER, new MockMultipartFile("file", new byte[0])))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> service.submit(OWNER, new MockMultipartFile("file", new byte[2048])))
+                .isInstanceOf(PayloadTooLargeException.class);
+    }
+
+    @Test
+    void jobsAreNotFoundForOtherUsersOrUnknownIds() throws Exception {
+        service = service(1, 1, 1);
+        when(imageVariantService.store(any(), anyString(), anyString())).thenReturn(stored());
+        String jobId = service.submit(OWNER, image("a")).getJobId();
+
+        assertThat(service.getStatus(OWNER, jobId).getJobId()).isEqualTo(jobId);
+        assertThatThrownBy(() -> service.getStatus(8L, jobId)).isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> service.getStatus(OWNER, "missing")).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private ImageUploadService service(int threads, int queueCapacity, int batchConcurrency) throws IOException {
+        return new ImageUploadService(imageVariantService, 1024, threads, queueCapacity, Duration.ofMinutes(5), 3,
+                batchConcurrency, new SimpleMeterRegistry());
+    }
+
+    private void blockFirstStore() throws IOException {
+        when(imageVariantService.store(any(), anyString(), anyString())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return stored();
+        });
+    }
+
+    private ImageUploadJobResponse awaitFinished(String jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        ImageUploadJobResponse job = service.getStatus(OWNER, jobId);
+        while ((job.getStatus() == Status.QUEUED || job.getStatus() == Status.PROCESSING) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            job = service.getStatus(OWNER, jobId);
+        }
+        return job;
+    }
+
+    private static MockMultipartFile image(String name) {
+        return new MockMultipartFile("files", name + ".jpg", "image/jpeg", new byte[]{1, 2, 3});
+    }
+
+    private static StoredImage stored() {
+        return StoredImage.builder().url("https://cdn.test/a.jpg").build();
+    }
+}
@@ -0,0 +1,152 @@
+package com.backend.server.service;
+
+import com.backend.server.entity.StoredImage;
+import com.backend.server.repository.StoredImageRepository;
+import com.backend.server.storage.ImageStorage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ImageVariantServiceTest {
+
+    @TempDir
+    Path directory;
+
+    private final ImageStorage imageStorage = mock(ImageStorage.class);
+    private final StoredImageRepository storedImageRepository = mock(StoredImageRepository.class);
+    private ImageVariantService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        service = new ImageVariantService(imageStorage, storedImageRepository, 10_485_760, 320, 1024, 0.8f, 4, 32,
+                new SimpleMeterRegistry());
+        when(storedImageRepository.findByContentHash(anyString())).thenReturn(Optional.empty());
+        when(storedImageRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(imageStorage.store(any(), anyString(), anyString())).thenAnswer(invocation -> {
+            invocation.getArgument(0, InputStream.class).readAllBytes();
+            return "https://cdn.test/" + invocation.getArgument(1);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void recordsTheFullResolutionSizeOfASubsampledSource() throws IOException {
+        Path source = directory.resolve("wide.png");
+        ImageIO.write(new BufferedImage(4000, 1000, BufferedImage.TYPE_INT_RGB), "png", source.toFile());
+
+        StoredImage stored = service.store(source, "wide.png", "image/png");
+
+        assertThat(stored.getWidth()).isEqualTo(4000);
+        assertThat(stored.getHeight()).isEqualTo(1000);
+        assertThat(stored.getMediumUrl()).endsWith("wide-medium.jpg");
+        assertThat(stored.getThumbnailUrl()).endsWith("wide-thumb.jpg");
+    }
+
+    @Test
+    void recordsUprightSizeForQuarterTurnExifOrientations() throws IOException {
+        Path source = directory.resolve("portrait.jpg");
+        Files.write(source, jpegWithOrientation(new BufferedImage(4000, 3000, BufferedImage.TYPE_INT_RGB), 6));
+
+        StoredImage stored = service.store(source, "portrait.jpg", "image/jpeg");
+
+        assertThat(stored.getWidth()).isEqualTo(3000);
+        assertThat(stored.getHeight()).isEqualTo(4000);
+    }
+
+    @Test
+    void deletesVariantsWhenTheOriginalFails() throws IOException {
+        Path source = directory.resolve("photo.png");
+        ImageIO.write(new BufferedImage(800, 600, BufferedImage.TYPE_INT_RGB), "png", source.toFile());
+        List<String> variantUrls = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            invocation.getArgument(0, InputStream.class).readAllBytes();
+            String name = invocation.getArgument(1);
+            if (name.equals("photo.png")) {
+                // Fail only after the variants have had time to upload
+                Thread.sleep(500);
+                throw new IOException("storage unavailable");
+            }
+            variantUrls.add("https://cdn.test/" + name);
+            return "https://cdn.test/" + name;
+        }).when(imageStorage).store(any(), anyString(), anyString());
+
+        assertThatThrownBy(() -> service.store(source, "photo.png", "image/png"))
+                .isInstanceOf(IOException.class)
+                .hasMessage("storage unavailable");
+
+        assertThat(variantUrls).hasSize(2);
+        for (String url : variantUrls) {
+            verify(imageStorage).delete(url);
+        }
+        verify(storedImageRepository, never()).save(any());
+    }
+
+    @Test
+    void losingTheContentHashRaceDeletesThisUploadsCopies() throws IOException {
+        Path source = directory.resolve("race.png");
+        ImageIO.write(new BufferedImage(800, 600, BufferedImage.TYPE_INT_RGB), "png", source.toFile());
+        StoredImage winner = StoredImage.builder().url("https://cdn.test/winner.png").build();
+        when(storedImageRepository.findByContentHash(anyString())).thenReturn(Optional.empty(), Optional.of(winner));
+        when(storedImageRepository.save(any())).thenThrow(new DataIntegrityViolationException("uk_stored_images_content_hash"));
+
+        assertThat(service.store(source, "race.png", "image/png")).isSameAs(winner);
+
+        verify(imageStorage).delete("https://cdn.test/race.png");
+        verify(imageStorage).delete("https://cdn.test/race-medium.jpg");
+        verify(imageStorage).delete("https://cdn.test/race-thumb.jpg");
+    }
+
+    /** Baseline JPEG with an EXIF APP1 segment carrying only the orientation tag, placed right after SOI. */
+    private static byte[] jpegWithOrientation(BufferedImage image, int orientation) throws IOException {
+        ByteArrayOutputStream jpeg = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpeg", jpeg);
+        byte[] encoded = jpeg.toByteArray();
+
+        ByteBuffer exif = ByteBuffer.allocate(6 + 8 + 2 + 12 + 4);
+        exif.put("Exif\0\0".getBytes());
+        exif.put((byte) 'M').put((byte) 'M').putShort((short) 42).putInt(8);
+        exif.putShort((short) 1);
+        exif.putShort((short) 0x0112).putShort((short) 3).putInt(1).putShort((short) orientation).putShort((short) 0);
+        exif.putInt(0);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(encoded, 0, 2);
+        out.write(0xFF);
+        out.write(0xE1);
+        int length = exif.capacity() + 2;
+        out.write(length >> 8);
+        out.write(length & 0xFF);
+        out.write(exif.array());
+        out.write(encoded, 2, encoded.length - 2);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,85 @@
+package com.backend.server.service;
+
+import com.backend.server.dto.SpacePage;
+import com.backend.server.dto.SpaceSearchRequest;
+import com.backend.server.dto.Versioned;
+import com.backend.server.entity.ParkingSpace;
+import com.backend.server.repository.ParkingSpaceRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.math.BigDecimal;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ParkingSpaceService.class, SpaceImageService.class})
+class ParkingSpaceSearchValidatorsTest {
+
+    @Autowired
+    private ParkingSpaceService parkingSpaceService;
+
+    @Autowired
+    private ParkingSpaceRepository parkingSpaceRepository;
+
+    @MockitoBean
+    private SpaceGeoIndex spaceGeoIndex;
+
+    @MockitoBean
+    private SpaceAddressIndex spaceAddressIndex;
+
+    @Test
+    void aRowLeavingTheFilterIsNotAnsweredWithNotModified() {
+        space(20);
+        space(20);
+        ParkingSpace newest = space(20);
+        SpaceSearchRequest request = SpaceSearchRequest.builder().maxRentPerHour(BigDecimal.valueOf(50)).limit(2).build();
+        Versioned<SpacePage> before = parkingSpaceService.search(request);
+        String lastSeen = DateTimeFormatter.RFC_1123_DATE_TIME.format(
+                ZonedDateTime.of(newest.getCreatedAt(), ZoneId.systemDefault()).plusSeconds(1));
+
+        // The newest row is raised above the filter; the next older row moves up and nothing on the page is newer
+        newest.setRentPerHour(BigDecimal.valueOf(100));
+        parkingSpaceRepository.save(newest);
+        Versioned<SpacePage> after = parkingSpaceService.search(request);
+
+        assertThat(after.body().items()).extracting("id").doesNotContain(newest.getId());
+        assertThat(after.etag()).isNotEqualTo(before.etag());
+        assertThat(after.lastModified()).isNull();
+        assertThat(notModified(after, HttpHeaders.IF_MODIFIED_SINCE, lastSeen)).isFalse();
+        assertThat(notModified(after, HttpHeaders.IF_NONE_MATCH, before.etag())).isFalse();
+        assertThat(notModified(after, HttpHeaders.IF_NONE_MATCH, after.etag())).isTrue();
+    }
+
+    /** The same precondition check the controller makes. */
+    private static boolean notModified(Versioned<?> versioned, String header, String value) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/spaces/search");
+        request.addHeader(header, value);
+        long lastModified = versioned.lastModified() != null ? versioned.lastModified().toEpochMilli() : -1;
+        return new ServletWebRequest(request, new MockHttpServletResponse()).checkNotModified(versioned.etag(), lastModified);
+    }
+
+    private ParkingSpace space(int rentPerHour) {
+        return parkingSpaceRepository.save(ParkingSpace.builder()
+                .ownerId(1L)
+                .address("12 MG Road, Bengaluru")
+                .squareFeet(120)
+                .vehicleTypes("Car")
+                .vehicleTypeMask(2)
+                .rentPerHour(BigDecimal.valueOf(rentPerHour))
+                .build());
+    }
+}
@@ -0,0 +1,80 @@
+package com.backend.server.service;
+
+import com.backend.server.entity.ParkingSpace;
+import com.backend.server.entity.ParkingSpaceImage;
+import com.backend.server.repository.ParkingSpaceImageRepository;
+import com.backend.server.repository.ParkingSpaceRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Runs without a test transaction so each backfill batch commits on its own, as it does at startup. */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({SpaceImageBackfill.class, SpaceImageService.class})
+class SpaceImageBackfillTest {
+
+    @Autowired
+    private SpaceImageBackfill backfill;
+
+    @Autowired
+    private ParkingSpaceRepository parkingSpaceRepository;
+
+    @Autowired
+    private ParkingSpaceImageRepository parkingSpaceImageRepository;
+
+    @Test
+    void movesLegacyUrlsIntoOrderedRowsAndClearsTheColumn() {
+        Long id = space("https://cdn.test/a.jpg, https://cdn.test/b.jpg,,").getId();
+
+        backfill.backfill();
+
+        assertThat(parkingSpaceImageRepository.findBySpaceIdOrderByPositionAsc(id))
+                .extracting(ParkingSpaceImage::getUrl)
+                .containsExactly("https://cdn.test/a.jpg", "https://cdn.test/b.jpg");
+        assertThat(parkingSpaceRepository.findById(id).orElseThrow().getLegacyImageUrls()).isNull();
+    }
+
+    @Test
+    void keepsExistingRowsOfSpacesThatStillHaveALegacyValue() {
+        Long id = space("https://cdn.test/old.jpg").getId();
+        parkingSpaceImageRepository.save(ParkingSpaceImage.builder()
+                .spaceId(id).position(0).url("https://cdn.test/new.jpg").build());
+        Long other = space("https://cdn.test/c.jpg").getId();
+
+        backfill.backfill();
+
+        assertThat(parkingSpaceImageRepository.findBySpaceIdOrderByPositionAsc(id))
+                .extracting(ParkingSpaceImage::getUrl)
+                .containsExactly("https://cdn.test/new.jpg");
+        assertThat(parkingSpaceRepository.findById(id).orElseThrow().getLegacyImageUrls()).isNull();
+        assertThat(parkingSpaceImageRepository.findBySpaceIdOrderByPositionAsc(other))
+                .extracting(ParkingSpaceImage::getUrl)
+                .containsExactly("https://cdn.test/c.jpg");
+    }
+
+    private ParkingSpace space(String legacyImageUrls) {
+        LocalDateTime now = LocalDateTime.now();
+        return parkingSpaceRepository.save(ParkingSpace.builder()
+                .ownerId(1L)
+                .address("12 MG Road, Bengaluru")
+                .squareFeet(120)
+                .vehicleTypes("Car")
+                .vehicleTypeMask(2)
+                .rentPerHour(BigDecimal.TEN)
+                .latitude(12.97)
+                .longitude(77.59)
+                .legacyImageUrls(legacyImageUrls)
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+    }
+}
@@ -0,0 +1,77 @@
+package com.backend.server.service;
+
+import com.backend.server.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserAvailabilityServiceTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private UserAvailabilityService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new UserAvailabilityService(userRepository, mock(PlatformTransactionManager.class),
+                new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "expectedUsers", 1_000L);
+        ReflectionTestUtils.setField(service, "falsePositiveRate", 0.01);
+    }
+
+    @Test
+    void registrationsCommittedDuringARebuildAreInTheNewFilters() {
+        // The scan has already passed the point where "late" would appear when its registration commits
+        when(userRepository.streamAllUsernames()).thenReturn(Stream.of("alice", "bob").peek(name -> {
+            if (name.equals("bob")) {
+                service.onUserRegistered("late", "late@example.com");
+            }
+        }));
+        when(userRepository.streamAllEmails()).thenReturn(Stream.of("alice@example.com", "bob@example.com"));
+        when(userRepository.existsByUsername("late")).thenReturn(true);
+        when(userRepository.existsByEmail("late@example.com")).thenReturn(true);
+
+        service.rebuild();
+
+        assertThat(service.isUsernameAvailable("late")).isFalse();
+        assertThat(service.isEmailAvailable("late@example.com")).isFalse();
+    }
+
+    @Test
+    void namesNotInTheFilterAreAnsweredWithoutTheDatabase() {
+        when(userRepository.streamAllUsernames()).thenReturn(Stream.of("alice"));
+        when(userRepository.streamAllEmails()).thenReturn(Stream.of("alice@example.com"));
+        when(userRepository.existsByUsername("alice")).thenReturn(true);
+        service.rebuild();
+
+        service.onUserRegistered("carol", "carol@example.com");
+        when(userRepository.existsByUsername("carol")).thenReturn(true);
+
+        assertThat(service.isUsernameAvailable("alice")).isFalse();
+        assertThat(service.isUsernameAvailable("carol")).isFalse();
+        for (String name : List.of("zed", "yvonne", "xavier")) {
+            if (service.isUsernameAvailable(name)) {
+                verify(userRepository, never()).existsByUsername(name);
+            }
+        }
+    }
+
+    @Test
+    void beforeTheFirstRebuildEveryCheckGoesToTheDatabase() {
+        when(userRepository.existsByUsername("alice")).thenReturn(true);
+
+        assertThat(service.isUsernameAvailable("alice")).isFalse();
+        assertThat(service.isUsernameAvailable("bob")).isTrue();
+        verify(userRepository).existsByUsername("bob");
+    }
+}
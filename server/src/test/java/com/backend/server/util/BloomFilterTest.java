@@ -0,0 +1,94 @@
+package com.backend.server.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    void neverReportsAnAddedValueAsAbsent() {
+        BloomFilter filter = new BloomFilter(100_000, 0.01);
+        for (int i = 0; i < 100_000; i++) {
+            filter.add("user" + i);
+        }
+        for (int i = 0; i < 100_000; i++) {
+            assertThat(filter.mightContain("user" + i)).as("user" + i).isTrue();
+        }
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTheConfiguredTarget() {
+        BloomFilter filter = new BloomFilter(50_000, 0.01);
+        for (int i = 0; i < 50_000; i++) {
+            filter.add("present-" + i);
+        }
+        int falsePositives = 0;
+        int probes = 200_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain("absent-" + i)) {
+                falsePositives++;
+            }
+        }
+        assertThat((double) falsePositives / probes).isLessThan(0.02);
+    }
+
+    @Test
+    void handlesNonAsciiAndEmptyValues() {
+        BloomFilter filter = new BloomFilter(10, 0.01);
+        filter.add("");
+        filter.add("josé@example.com");
+        filter.add("用户");
+
+        assertThat(filter.mightContain("")).isTrue();
+        assertThat(filter.mightContain("josé@example.com")).isTrue();
+        assertThat(filter.mightContain("用户")).isTrue();
+    }
+
+    @Test
+    void concurrentAddsLoseNoBits() throws Exception {
+        BloomFilter filter = new BloomFilter(80_000, 0.01);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int thread = t;
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        filter.add(thread + ":" + i);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+        for (int t = 0; t < 8; t++) {
+            for (int i = 0; i < 10_000; i++) {
+                assertThat(filter.mightContain(t + ":" + i)).isTrue();
+            }
+        }
+        assertThat(filter.insertions()).isEqualTo(80_000);
+    }
+
+    @Test
+    void reportsSaturationOncePastTheExpectedSize() {
+        BloomFilter filter = new BloomFilter(3, 0.01);
+        for (int i = 0; i < 3; i++) {
+            filter.add("v" + i);
+        }
+        assertThat(filter.isSaturated()).isFalse();
+
+        filter.add("v3");
+
+        assertThat(filter.isSaturated()).isTrue();
+    }
+}
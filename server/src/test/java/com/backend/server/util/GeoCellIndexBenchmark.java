@@ -0,0 +1,74 @@
+package com.backend.server.util;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Radius-query latency for {@link GeoCellIndex} with one million spaces packed into a 100 km x 100 km
+ * metro area, the dense case the nearby endpoint has to handle. Each result is checked against the
+ * requested radius and ordering. Run with {@code ./gradlew geoIndexBenchmark}.
+ */
+public final class GeoCellIndexBenchmark {
+
+    private static final int SPACES = 1_000_000;
+    private static final int QUERIES = 50_000;
+    private static final int LIMIT = 20;
+    private static final double CENTER_LAT = 12.97;
+    private static final double CENTER_LON = 77.59;
+    private static final double HALF_SPAN_DEG = 0.45;
+
+    private GeoCellIndexBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        SplittableRandom random = new SplittableRandom(42);
+        long start = System.nanoTime();
+        GeoCellIndex.Builder builder = GeoCellIndex.builder();
+        for (long id = 1; id <= SPACES; id++) {
+            builder.add(id, around(random, CENTER_LAT), around(random, CENTER_LON), 1 << random.nextInt(7));
+        }
+        GeoCellIndex index = builder.build();
+        System.out.printf("build: %,d spaces in %d ms%n", index.size(), (System.nanoTime() - start) / 1_000_000);
+
+        for (double radius : new double[]{500, 1_000, 2_000, 5_000}) {
+            run(index, random, radius);
+        }
+    }
+
+    private static void run(GeoCellIndex index, SplittableRandom random, double radius) {
+        double[] lats = new double[QUERIES];
+        double[] lons = new double[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            lats[i] = around(random, CENTER_LAT);
+            lons[i] = around(random, CENTER_LON);
+        }
+        for (int i = 0; i < QUERIES; i++) {
+            index.nearest(lats[i], lons[i], radius, 0, LIMIT);
+        }
+
+        long hits = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < QUERIES; i++) {
+            List<GeoCellIndex.Hit> result = index.nearest(lats[i], lons[i], radius, 0, LIMIT);
+            hits += result.size();
+            check(result, radius);
+        }
+        long nanos = System.nanoTime() - start;
+        System.out.printf("radius %,6.0f m: %7.1f us/query   avg hits %4.1f%n",
+                radius, nanos / 1e3 / QUERIES, (double) hits / QUERIES);
+    }
+
+    private static void check(List<GeoCellIndex.Hit> result, double radius) {
+        double previous = 0;
+        for (GeoCellIndex.Hit hit : result) {
+            if (hit.distanceMeters() > radius || hit.distanceMeters() < previous) {
+                throw new IllegalStateException("Bad result: " + result);
+            }
+            previous = hit.distanceMeters();
+        }
+    }
+
+    private static double around(SplittableRandom random, double center) {
+        return center + random.nextDouble(-HALF_SPAN_DEG, HALF_SPAN_DEG);
+    }
+}
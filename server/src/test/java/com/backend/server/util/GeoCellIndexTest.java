@@ -0,0 +1,199 @@
+package com.backend.server.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeoCellIndexTest {
+
+    private static final int CAR = 1;
+    private static final int BIKE = 2;
+
+    @Test
+    void distanceMatchesKnownCityPairs() {
+        // Bengaluru MG Road to Chennai Central, about 290 km
+        assertThat(GeoCellIndex.distanceMeters(12.9756, 77.6066, 13.0827, 80.2707)).isBetween(285_000.0, 295_000.0);
+        // One degree of latitude is about 111.2 km everywhere
+        assertThat(GeoCellIndex.distanceMeters(10, 20, 11, 20)).isBetween(111_100.0, 111_300.0);
+        assertThat(GeoCellIndex.distanceMeters(45, 179.5, 45, -179.5)).isBetween(78_000.0, 79_000.0);
+    }
+
+    @Test
+    void returnsPointsInsideTheRadiusNearestFirst() {
+        GeoCellIndex index = new GeoCellIndex();
+        index.put(1, 12.9716, 77.5946, CAR);
+        index.put(2, 12.9800, 77.5946, CAR);
+        index.put(3, 12.9716, 77.6100, CAR);
+        index.put(4, 13.0500, 77.5946, CAR);
+
+        List<GeoCellIndex.Hit> hits = index.nearest(12.9716, 77.5946, 2_000, 0, 10);
+
+        assertThat(hits).extracting(GeoCellIndex.Hit::id).containsExactly(1L, 2L, 3L);
+        assertThat(hits.get(0).distanceMeters()).isZero();
+    }
+
+    @Test
+    void includesAPointExactlyOnTheRadius() {
+        GeoCellIndex index = new GeoCellIndex();
+        index.put(1, 0.01, 0, CAR);
+        double exact = GeoCellIndex.distanceMeters(0, 0, 0.01, 0);
+
+        assertThat(index.nearest(0, 0, exact, 0, 10)).hasSize(1);
+        assertThat(index.nearest(0, 0, Math.nextDown(exact), 0, 10)).isEmpty();
+    }
+
+    @Test
+    void limitKeepsTheClosestPoints() {
+        GeoCellIndex index = new GeoCellIndex();
+        for (int i = 1; i <= 50; i++) {
+            index.put(i, 12.97 + i * 0.0001, 77.59, CAR);
+        }
+
+        List<GeoCellIndex.Hit> hits = index.nearest(12.97, 77.59, 10_000, 0, 5);
+
+        assertThat(hits).extracting(GeoCellIndex.Hit::id).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(index.nearest(12.97, 77.59, 10_000, 0, 0)).isEmpty();
+    }
+
+    @Test
+    void requiredMaskNeedsEveryBit() {
+        GeoCellIndex index = new GeoCellIndex();
+        index.put(1, 12.97, 77.59, CAR);
+        index.put(2, 12.97, 77.5901, BIKE);
+        index.put(3, 12.97, 77.5902, CAR | BIKE);
+
+        assertThat(index.nearest(12.97, 77.59, 1_000, CAR, 10)).extracting(GeoCellIndex.Hit::id).containsExactly(1L, 3L);
+        assertThat(index.nearest(12.97, 77.59, 1_000, CAR | BIKE, 10)).extracting(GeoCellIndex.Hit::id).containsExactly(3L);
+        assertThat(index.nearest(12.97, 77.59, 1_000, 0, 10)).hasSize(3);
+    }
+
+    @Test
+    void movingAPointReindexesItInItsNewCell() {
+        GeoCellIndex index = new GeoCellIndex();
+        index.put(1, 12.97, 77.59, CAR);
+        index.put(2, 12.97, 77.5901, CAR);
+
+        index.put(1, 28.61, 77.21, BIKE);
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.nearest(12.97, 77.59, 1_000, 0, 10)).extracting(GeoCellIndex.Hit::id).containsExactly(2L);
+        assertThat(index.nearest(28.61, 77.21, 1_000, BIKE, 10)).extracting(GeoCellIndex.Hit::id).containsExactly(1L);
+    }
+
+    @Test
+    void updatingWithinTheSameCellReplacesTheMask() {
+        GeoCellIndex index = new GeoCellIndex();
+        index.put(1, 12.97, 77.59, CAR);
+
+        index.put(1, 12.97, 77.59, BIKE);
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.nearest(12.97, 77.59, 100, CAR, 10)).isEmpty();
+        assertThat(index.nearest(12.97, 77.59, 100, BIKE, 10)).hasSize(1);
+    }
+
+    @Test
+    void removedPointsAreNoLongerFound() {
+        GeoCellIndex index = new GeoCellIndex();
+        index.put(1, 12.97, 77.59, CAR);
+        index.put(2, 12.97, 77.59, CAR);
+
+        index.remove(1);
+        index.remove(99);
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.nearest(12.97, 77.59, 100, 0, 10)).extracting(GeoCellIndex.Hit::id).containsExactly(2L);
+        index.remove(2);
+        assertThat(index.nearest(12.97, 77.59, 100, 0, 10)).isEmpty();
+    }
+
+    @Test
+    void builderKeepsOnlyTheLastPositionOfAnId() {
+        GeoCellIndex index = GeoCellIndex.builder()
+                .add(1, 12.97, 77.59, CAR)
+                .add(1, 28.61, 77.21, CAR)
+                .add(2, 12.97, 77.59, CAR)
+                .build();
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.nearest(12.97, 77.59, 1_000, 0, 10)).extracting(GeoCellIndex.Hit::id).containsExactly(2L);
+        assertThat(index.nearest(28.61, 77.21, 1_000, 0, 10)).extracting(GeoCellIndex.Hit::id).containsExactly(1L);
+    }
+
+    @Test
+    void findsNeighboursAcrossTheAntimeridian() {
+        GeoCellIndex index = new GeoCellIndex();
+        index.put(1, -17.0, 179.999, CAR);
+        index.put(2, -17.0, -179.999, CAR);
+
+        assertThat(index.nearest(-17.0, 179.9995, 1_000, 0, 10)).extracting(GeoCellIndex.Hit::id)
+                .containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.nearest(-17.0, -180.0, 1_000, 0, 10)).extracting(GeoCellIndex.Hit::id)
+                .containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void findsPointsOnEveryMeridianNearThePoles() {
+        GeoCellIndex index = new GeoCellIndex();
+        for (int i = 0; i < 12; i++) {
+            index.put(i, 89.99, -180 + i * 30, CAR);
+        }
+        index.put(100, 90.0, 0, CAR);
+
+        // Every point is within ~2.2 km of the pole and within ~2.3 km of each other across it
+        assertThat(index.nearest(90.0, 0, 2_500, 0, 100)).hasSize(13);
+        assertThat(index.nearest(89.99, 0, 2_500, 0, 100)).extracting(GeoCellIndex.Hit::id).contains(6L, 100L);
+        assertThat(index.nearest(-89.995, 45, 1_000, 0, 100)).isEmpty();
+    }
+
+    /** Brute force over random points, with extra density at the antimeridian, the poles and the equator. */
+    @ParameterizedTest
+    @CsvSource({
+            "0, 0, 5000",
+            "12.97, 77.59, 2000",
+            "-33.87, 179.99, 20000",
+            "64.1, -179.95, 15000",
+            "89.95, 10, 20000",
+            "-89.9, -120, 20000",
+            "45, 0.001, 500"
+    })
+    void agreesWithBruteForce(double latitude, double longitude, double radius) {
+        SplittableRandom random = new SplittableRandom(7);
+        GeoCellIndex index = new GeoCellIndex();
+        List<double[]> points = new ArrayList<>();
+        for (int id = 0; id < 5_000; id++) {
+            double lat = Math.max(-90, Math.min(90, latitude + random.nextDouble(-0.5, 0.5)));
+            double lon = normalize(longitude + random.nextDouble(-2, 2));
+            int mask = 1 + random.nextInt(3);
+            index.put(id, lat, lon, mask);
+            points.add(new double[]{id, lat, lon, mask});
+        }
+
+        for (int requiredMask : new int[]{0, CAR, CAR | BIKE}) {
+            List<Long> expected = points.stream()
+                    .filter(p -> ((int) p[3] & requiredMask) == requiredMask)
+                    .filter(p -> GeoCellIndex.distanceMeters(latitude, longitude, p[1], p[2]) <= radius)
+                    .sorted(Comparator.comparingDouble(p -> GeoCellIndex.distanceMeters(latitude, longitude, p[1], p[2])))
+                    .map(p -> (long) p[0])
+                    .limit(25)
+                    .toList();
+
+            List<Long> actual = index.nearest(latitude, longitude, radius, requiredMask, 25).stream()
+                    .map(GeoCellIndex.Hit::id)
+                    .toList();
+
+            assertThat(actual).as("mask %d", requiredMask).isEqualTo(expected);
+        }
+    }
+
+    private static double normalize(double longitude) {
+        return ((longitude + 540) % 360) - 180;
+    }
+}
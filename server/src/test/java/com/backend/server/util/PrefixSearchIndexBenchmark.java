@@ -0,0 +1,99 @@
+package com.backend.server.util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Autocomplete latency for {@link PrefixSearchIndex} over one million synthetic addresses
+ * ("12 Kalora Main Road, Velpur, Bengaluru"). Queries replay what a user types: the leading words of
+ * an indexed address with the last word cut short. Run with {@code ./gradlew prefixIndexBenchmark}.
+ */
+public final class PrefixSearchIndexBenchmark {
+
+    private static final int ADDRESSES = 1_000_000;
+    private static final int QUERIES = 20_000;
+    private static final int LIMIT = 10;
+    private static final String[] SYLLABLES = {"ka", "lo", "ra", "vel", "pur", "man", "di", "ga", "nan", "shi",
+            "va", "ji", "na", "ha", "lli", "ko", "ta", "bad", "re", "ma"};
+    private static final String[] SUFFIXES = {"Road", "Main Road", "Street", "Cross", "Lane", "Layout", "Nagar"};
+    private static final String[] CITIES = {"Bengaluru", "Chennai", "Hyderabad", "Mumbai", "Pune", "Delhi",
+            "Kolkata", "Kochi", "Mysuru", "Coimbatore"};
+
+    private PrefixSearchIndexBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        SplittableRandom random = new SplittableRandom(7);
+        String[] streets = words(random, 5_000);
+        String[] areas = words(random, 800);
+        String[] addresses = new String[ADDRESSES];
+        for (int i = 0; i < ADDRESSES; i++) {
+            addresses[i] = (1 + random.nextInt(400)) + " " + pick(random, streets) + " " + pick(random, SUFFIXES)
+                    + ", " + pick(random, areas) + ", " + pick(random, CITIES);
+        }
+
+        long start = System.nanoTime();
+        PrefixSearchIndex.Builder builder = PrefixSearchIndex.builder();
+        for (int i = 0; i < ADDRESSES; i++) {
+            builder.add(i + 1, addresses[i]);
+        }
+        PrefixSearchIndex index = builder.build();
+        System.out.printf("build: %,d addresses in %d ms%n", index.size(), (System.nanoTime() - start) / 1_000_000);
+
+        for (int words = 1; words <= 3; words++) {
+            run(index, random, addresses, words);
+        }
+    }
+
+    private static void run(PrefixSearchIndex index, SplittableRandom random, String[] addresses, int words) {
+        String[] queries = new String[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            String[] tokens = PrefixSearchIndex.tokenize(addresses[random.nextInt(addresses.length)]);
+            StringBuilder query = new StringBuilder();
+            int offset = 1; // skip the house number
+            for (int w = 0; w < words && offset + w < tokens.length; w++) {
+                String token = tokens[offset + w];
+                boolean last = w == words - 1 || offset + w == tokens.length - 1;
+                query.append(last ? token.substring(0, Math.min(token.length(), 2 + random.nextInt(3))) : token).append(' ');
+            }
+            queries[i] = query.toString();
+        }
+        for (int round = 0; round < 5; round++) {
+            for (String query : queries) {
+                index.search(query, LIMIT);
+            }
+        }
+
+        long hits = 0;
+        long[] nanos = new long[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            long start = System.nanoTime();
+            List<PrefixSearchIndex.Match> matches = index.search(queries[i], LIMIT);
+            nanos[i] = System.nanoTime() - start;
+            hits += matches.size();
+        }
+        Arrays.sort(nanos);
+        System.out.printf("%d word(s): p50 %7.1f us   p90 %7.1f us   p99 %7.1f us   avg hits %4.1f%n", words,
+                nanos[QUERIES / 2] / 1e3, nanos[QUERIES * 9 / 10] / 1e3, nanos[QUERIES * 99 / 100] / 1e3,
+                (double) hits / QUERIES);
+    }
+
+    private static String[] words(SplittableRandom random, int count) {
+        String[] words = new String[count];
+        for (int i = 0; i < count; i++) {
+            StringBuilder word = new StringBuilder();
+            int syllables = 2 + random.nextInt(3);
+            for (int s = 0; s < syllables; s++) {
+                word.append(pick(random, SYLLABLES));
+            }
+            word.setCharAt(0, Character.toUpperCase(word.charAt(0)));
+            words[i] = word.toString();
+        }
+        return words;
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,191 @@
+package com.backend.server.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class PrefixSearchIndexTest {
+
+    @Test
+    void tokenizesLowerCasedAccentStrippedWordsWithoutDuplicates() {
+        assertThat(PrefixSearchIndex.tokenize("12, Café Coffee-Day Road; ROAD")).containsExactly("12", "cafe", "coffee", "day", "road");
+        assertThat(PrefixSearchIndex.tokenize("  ")).isEmpty();
+        assertThat(PrefixSearchIndex.tokenize(null)).isEmpty();
+    }
+
+    @Test
+    void lastWordIsAPrefixAndEarlierWordsMustMatchExactly() {
+        PrefixSearchIndex index = new PrefixSearchIndex();
+        index.put(1, "12 MG Road, Bengaluru");
+        index.put(2, "14 Brigade Road, Bengaluru");
+        index.put(3, "MG Roadside Lane, Mysuru");
+
+        assertThat(ids(index.search("mg ro", 10))).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(ids(index.search("brigade road beng", 10))).containsExactly(2L);
+        assertThat(ids(index.search("mg roa bengaluru", 10))).isEmpty();
+        assertThat(index.search("", 10)).isEmpty();
+        assertThat(index.search("road", 0)).isEmpty();
+    }
+
+    @Test
+    void shorterCompletionsRankFirstAndCarryTheirText() {
+        PrefixSearchIndex index = new PrefixSearchIndex();
+        index.put(1, "Koramangala 5th Block");
+        index.put(2, "Kormangala Extension");
+        index.put(3, "Kora Street");
+
+        List<PrefixSearchIndex.Match> matches = index.search("kora", 10);
+
+        assertThat(ids(matches)).containsExactly(3L, 1L);
+        assertThat(matches.get(0).score()).isEqualTo(1.0);
+        assertThat(matches.get(0).text()).isEqualTo("Kora Street");
+        assertThat(matches.get(1).score()).isCloseTo(4.0 / 11, within(1e-9));
+    }
+
+    @Test
+    void limitKeepsTheBestScores() {
+        PrefixSearchIndex index = new PrefixSearchIndex();
+        index.put(1, "Indiranagar");
+        index.put(2, "Indira Colony");
+        index.put(3, "Indiranagar 2nd Stage");
+        index.put(4, "Indi Lane");
+
+        assertThat(ids(index.search("indi", 2))).containsExactly(4L, 2L);
+    }
+
+    @Test
+    void removedDocumentsDisappearAndUnusedTermsAreDropped() {
+        PrefixSearchIndex index = new PrefixSearchIndex();
+        index.put(1, "Jayanagar 4th Block");
+        index.put(2, "Jayanagar 9th Block");
+
+        index.remove(1);
+        index.remove(42);
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(ids(index.search("jayanagar", 10))).containsExactly(2L);
+        assertThat(index.search("4th", 10)).isEmpty();
+        index.remove(2);
+        assertThat(index.search("jaya", 10)).isEmpty();
+    }
+
+    @Test
+    void putReplacesTheTextOfAnExistingDocument() {
+        PrefixSearchIndex index = new PrefixSearchIndex();
+        index.put(1, "Old Airport Road");
+
+        index.put(1, "Whitefield Main Road");
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.search("airport", 10)).isEmpty();
+        assertThat(index.search("whitefield ma", 10)).singleElement()
+                .satisfies(match -> assertThat(match.text()).isEqualTo("Whitefield Main Road"));
+    }
+
+    @Test
+    void builderMatchesIncrementalPuts() {
+        List<String> texts = corpus(new SplittableRandom(3), 500);
+        PrefixSearchIndex incremental = new PrefixSearchIndex();
+        PrefixSearchIndex.Builder builder = PrefixSearchIndex.builder();
+        for (int id = 0; id < texts.size(); id++) {
+            incremental.put(id, texts.get(id));
+            builder.add(id, texts.get(id));
+        }
+        PrefixSearchIndex built = builder.build();
+
+        for (String query : List.of("ma", "main ro", "12 main road", "layout sec")) {
+            assertThat(scores(built.search(query, 20))).isEqualTo(scores(incremental.search(query, 20)));
+        }
+    }
+
+    /**
+     * Brute force over a random corpus. The queries cover each strategy: a common prefix alone walks the prefix
+     * terms, a rare word with a narrow prefix probes, and a rare word with a prefix over many terms ("17 1")
+     * reads documents.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"m", "ma", "main", "road", "main ro", "17 r", "17 m", "17 main road", "zz", "sector 9 l",
+            "layout", "crossroad main ro", "17 crossroad l", "17 1", "17 sector 1"})
+    void agreesWithBruteForce(String query) {
+        List<String> texts = corpus(new SplittableRandom(11), 3_000);
+        PrefixSearchIndex index = new PrefixSearchIndex();
+        for (int id = 0; id < texts.size(); id++) {
+            index.put(id, texts.get(id));
+        }
+        // Churn so the incremental posting arrays see deletes and re-inserts
+        for (int id = 0; id < texts.size(); id += 7) {
+            index.remove(id);
+        }
+        for (int id = 0; id < texts.size(); id += 14) {
+            index.put(id, texts.get(id));
+        }
+        Map<Long, Double> expected = new HashMap<>();
+        for (int id = 0; id < texts.size(); id++) {
+            if (id % 7 != 0 || id % 14 == 0) {
+                double score = bruteForceScore(query, texts.get(id));
+                if (score > 0) {
+                    expected.put((long) id, score);
+                }
+            }
+        }
+
+        for (int limit : new int[]{1, 10, 100}) {
+            List<PrefixSearchIndex.Match> matches = index.search(query, limit);
+
+            List<Double> best = expected.values().stream().sorted(Comparator.reverseOrder()).limit(limit).toList();
+            assertThat(scores(matches)).as("limit %d", limit).isEqualTo(best);
+            for (PrefixSearchIndex.Match match : matches) {
+                assertThat(expected.get(match.id())).isEqualTo(match.score());
+                assertThat(match.text()).isEqualTo(texts.get((int) match.id()));
+            }
+        }
+    }
+
+    private static double bruteForceScore(String query, String text) {
+        String[] words = PrefixSearchIndex.tokenize(query);
+        List<String> tokens = List.of(PrefixSearchIndex.tokenize(text));
+        for (int i = 0; i < words.length - 1; i++) {
+            if (!tokens.contains(words[i])) {
+                return 0;
+            }
+        }
+        String prefix = words[words.length - 1];
+        double best = 0;
+        for (String token : tokens) {
+            if (token.startsWith(prefix)) {
+                best = Math.max(best, (double) prefix.length() / token.length());
+            }
+        }
+        return best == 0 ? 0 : words.length - 1 + best;
+    }
+
+    private static List<String> corpus(SplittableRandom random, int size) {
+        String[] streets = {"main", "mall", "market", "maruthi", "mahadevapura", "lake", "link", "layout", "lane"};
+        String[] kinds = {"road", "rd", "cross", "crossroad", "street", "ring"};
+        List<String> texts = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String number = random.nextInt(50) == 0 ? "17" : String.valueOf(random.nextInt(1, 200));
+            texts.add(number + " " + streets[random.nextInt(streets.length)] + " " + kinds[random.nextInt(kinds.length)]
+                    + ", Sector " + random.nextInt(1, 12) + (random.nextBoolean() ? ", Layout" : ""));
+        }
+        return texts;
+    }
+
+    private static List<Long> ids(List<PrefixSearchIndex.Match> matches) {
+        return matches.stream().map(PrefixSearchIndex.Match::id).toList();
+    }
+
+    private static List<Double> scores(List<PrefixSearchIndex.Match> matches) {
+        return matches.stream().map(PrefixSearchIndex.Match::score).toList();
+    }
+}
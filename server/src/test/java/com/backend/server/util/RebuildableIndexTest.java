@@ -0,0 +1,56 @@
+package com.backend.server.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RebuildableIndexTest {
+
+    @Test
+    void updatesDuringARebuildAreReplayedOntoTheNewIndex() {
+        RebuildableIndex<Map<Long, String>, Map.Entry<Long, String>> index =
+                new RebuildableIndex<>(new HashMap<>(), (map, entry) -> map.put(entry.getKey(), entry.getValue()));
+
+        index.rebuild(() -> {
+            Map<Long, String> scanned = new HashMap<>(Map.of(1L, "scanned"));
+            // Committed after the scan read its rows
+            index.update(Map.entry(2L, "added"));
+            index.update(Map.entry(1L, "changed"));
+            return scanned;
+        });
+
+        assertThat(index.get()).containsExactlyInAnyOrderEntriesOf(Map.of(1L, "changed", 2L, "added"));
+        index.update(Map.entry(3L, "later"));
+        assertThat(index.get()).containsEntry(3L, "later");
+    }
+
+    @Test
+    void aFailedRebuildKeepsTheCurrentIndex() {
+        Map<Long, String> initial = new HashMap<>();
+        RebuildableIndex<Map<Long, String>, Map.Entry<Long, String>> index =
+                new RebuildableIndex<>(initial, (map, entry) -> map.put(entry.getKey(), entry.getValue()));
+
+        assertThatThrownBy(() -> index.rebuild(() -> {
+            index.update(Map.entry(1L, "kept"));
+            throw new IllegalStateException("database unavailable");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(index.get()).isSameAs(initial).containsEntry(1L, "kept");
+    }
+
+    @Test
+    void withoutAnInitialIndexUpdatesWaitForTheFirstRebuild() {
+        RebuildableIndex<Map<Long, String>, Map.Entry<Long, String>> index =
+                new RebuildableIndex<>(null, (map, entry) -> map.put(entry.getKey(), entry.getValue()));
+
+        index.update(Map.entry(1L, "before"));
+        assertThat(index.get()).isNull();
+
+        index.rebuild(HashMap::new);
+        assertThat(index.get()).isEmpty();
+    }
+}
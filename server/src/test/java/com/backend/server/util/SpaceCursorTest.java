@@ -0,0 +1,53 @@
+package com.backend.server.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SpaceCursorTest {
+
+    @Test
+    void roundTripsMicrosecondTimestamps() {
+        SpaceCursor cursor = new SpaceCursor(LocalDateTime.of(2026, 3, 14, 15, 9, 26, 535_897_000), 9_007_199_254_740_993L);
+
+        assertThat(SpaceCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void roundTripsTimestampsWithoutSecondsOrFraction() {
+        // LocalDateTime.toString drops zero seconds ("2026-01-01T00:00"), which parse must still accept
+        SpaceCursor cursor = new SpaceCursor(LocalDateTime.of(2026, 1, 1, 0, 0), 1L);
+
+        assertThat(SpaceCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void encodesAsUrlSafeBase64WithoutPadding() {
+        String encoded = new SpaceCursor(LocalDateTime.of(2026, 1, 1, 12, 30, 45, 1_000), 42L).encode();
+
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "not base64!", "bm8tc2VwYXJhdG9y", "MjAyNi0wMS0wMXw0Mg"})
+    void rejectsMalformedCursors(String cursor) {
+        assertThatThrownBy(() -> SpaceCursor.decode(cursor))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+    }
+
+    @Test
+    void rejectsANonNumericId() {
+        String cursor = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("2026-01-01T00:00|abc".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> SpaceCursor.decode(cursor)).isInstanceOf(IllegalArgumentException.class);
+    }
+}